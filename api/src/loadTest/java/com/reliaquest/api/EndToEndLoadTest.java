@@ -0,0 +1,271 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.LoadProfile.Endpoint;
+import com.reliaquest.server.ServerApplication;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Drives the whole chain, client to api to mock server, with both applications started in this JVM on ephemeral
+ * ports, and reports what the client saw per endpoint together with what happened between the api and the server.
+ *
+ * <p>Load is open-loop: requests start at {@link LoadProfile#rate()} per second whether or not earlier ones have
+ * completed, and latency is measured from when a request was due to start, so a stalled system shows up as latency
+ * instead of as a quietly lower arrival rate. Settings come from {@code load.*} system properties, see
+ * {@link LoadProfile}; for example
+ * {@code ./gradlew api:loadTest --tests '*EndToEndLoadTest' -Dload.rate=300 -Dload.rate-limit=fixed}.
+ */
+class EndToEndLoadTest {
+
+    private static final long TRANSPORT_ERROR = -1;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void runLoadProfile() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        System.out.println("load profile: " + profile);
+
+        try (ConfigurableApplicationContext server = startServer(profile);
+                ConfigurableApplicationContext api = startApi(profile, port(server))) {
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            URI serverBase = URI.create("http://localhost:" + port(server) + "/api/v1/employee");
+            URI apiBase = URI.create("http://localhost:" + port(api) + "/api/v1/employee");
+
+            Run run = new Run(profile, http, apiBase, roster(http, serverBase));
+            run.execute();
+
+            report(run, api.getBean(MeterRegistry.class), server.getBean(MeterRegistry.class));
+            assertTrue(run.completed() > 0, "no request completed");
+        }
+    }
+
+    private static ConfigurableApplicationContext startServer(LoadProfile profile) {
+        // The server's own application.yml is shadowed by the api's on this classpath, so configure it in full here.
+        return new SpringApplicationBuilder(ServerApplication.class)
+                .run(
+                        "--spring.config.name=mock-employee-server",
+                        "--spring.application.name=mock-employee-api",
+                        "--server.port=0",
+                        "--server.compression.enabled=true",
+                        "--mock.employees.max=" + profile.employees(),
+                        "--mock.rate-limit.mode=" + profile.rateLimitMode(),
+                        "--mock.rate-limit.limit=" + profile.rateLimit(),
+                        "--mock.rate-limit.window=" + profile.rateLimitWindow().toMillis() + "ms",
+                        "--logging.level.com.reliaquest=WARN");
+    }
+
+    private static ConfigurableApplicationContext startApi(LoadProfile profile, int serverPort) {
+        return new SpringApplicationBuilder(ApiApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--employee.api.base-url=http://localhost:" + serverPort + "/api/v1/employee",
+                        "--employee.api.client.mode=" + profile.clientMode(),
+                        "--logging.level.com.reliaquest=WARN");
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+    }
+
+    /**
+     * Ids and names to aim by-id, search and delete requests at, read straight from the server.
+     */
+    private Roster roster(HttpClient http, URI serverBase) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(
+                HttpRequest.newBuilder(serverBase).build(), HttpResponse.BodyHandlers.ofByteArray());
+        List<String> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (JsonNode employee : objectMapper.readTree(response.body()).path("data")) {
+            ids.add(employee.path("id").asText());
+            names.add(employee.path("employee_name").asText());
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("Mock server returned no employees: HTTP " + response.statusCode());
+        }
+        return new Roster(ids, names);
+    }
+
+    private static void report(Run run, MeterRegistry api, MeterRegistry server) {
+        double seconds = run.profile.duration().toNanos() / 1e9;
+        System.out.printf(
+                "%ncompleted=%d throughput=%.1f/s arrivals-behind-schedule=%d%n",
+                run.completed(), run.completed() / seconds, run.behindSchedule.get());
+        System.out.printf(
+                "%-15s %8s %9s %9s %9s %9s%n", "endpoint", "count", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        run.latencies.forEach((endpoint, histogram) -> System.out.printf(
+                "%-15s %8d %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint.key(),
+                histogram.getTotalCount(),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())));
+
+        System.out.println("responses by status (-1 = transport error):");
+        run.statuses.forEach((endpoint, statuses) -> System.out.printf("  %-15s %s%n", endpoint.key(), statuses));
+
+        Map<String, Long> outcomes = new TreeMap<>();
+        for (Timer timer : api.find("employee.api.client.requests").timers()) {
+            outcomes.merge(timer.getId().getTag("outcome"), timer.count(), Long::sum);
+        }
+        long retries = (long) api.find("employee.api.client.retries").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+        long upstream429 = server.find("http.server.requests").tag("status", "429").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+        long upstream5xx = server.find("http.server.requests").tag("outcome", "SERVER_ERROR").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+        System.out.printf(
+                "api -> server: outcomes=%s retries=%d server 429s=%d server 5xx=%d circuit-open=%d%n",
+                outcomes, retries, upstream429, upstream5xx, outcomes.getOrDefault("circuit_open", 0L));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private record Roster(List<String> ids, List<String> names) {}
+
+    /**
+     * One open-loop run: a single thread issues requests on schedule and completions are recorded asynchronously.
+     */
+    private static final class Run {
+
+        private final LoadProfile profile;
+        private final HttpClient http;
+        private final URI apiBase;
+        private final Roster roster;
+        private final Semaphore inFlight;
+        private final SplittableRandom random = new SplittableRandom(42L);
+        private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, Map<Long, LongAdder>> statuses = new EnumMap<>(Endpoint.class);
+        private final AtomicLong behindSchedule = new AtomicLong();
+        private final AtomicLong created = new AtomicLong();
+
+        Run(LoadProfile profile, HttpClient http, URI apiBase, Roster roster) {
+            this.profile = profile;
+            this.http = http;
+            this.apiBase = apiBase;
+            this.roster = roster;
+            this.inFlight = new Semaphore(profile.concurrency());
+            for (Endpoint endpoint : profile.mix().keySet()) {
+                latencies.put(endpoint, new ConcurrentHistogram(3));
+                statuses.put(endpoint, new ConcurrentHashMap<>());
+            }
+        }
+
+        void execute() throws InterruptedException {
+            long interval = TimeUnit.SECONDS.toNanos(1) / profile.rate();
+            long start = System.nanoTime();
+            long measureFrom = start + profile.warmup().toNanos();
+            long end = measureFrom + profile.duration().toNanos();
+            for (long i = 0; ; i++) {
+                long due = start + i * interval;
+                if (due >= end) {
+                    break;
+                }
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else if (wait < -interval) {
+                    behindSchedule.incrementAndGet();
+                }
+                inFlight.acquire();
+                Endpoint endpoint = profile.pick(random);
+                boolean measured = due >= measureFrom;
+                http.sendAsync(request(endpoint), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, failure) -> {
+                            inFlight.release();
+                            if (measured) {
+                                record(endpoint, due, failure == null ? response.statusCode() : TRANSPORT_ERROR);
+                            }
+                        });
+            }
+            // Let everything still in flight finish before reporting.
+            inFlight.acquire(profile.concurrency());
+            inFlight.release(profile.concurrency());
+        }
+
+        long completed() {
+            return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        }
+
+        private void record(Endpoint endpoint, long due, long status) {
+            latencies.get(endpoint).recordValue(System.nanoTime() - due);
+            statuses.get(endpoint).computeIfAbsent(status, ignored -> new LongAdder()).increment();
+        }
+
+        private HttpRequest request(Endpoint endpoint) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(60));
+            return switch (endpoint) {
+                case ALL -> builder.uri(apiBase).GET().build();
+                case SEARCH -> {
+                    String name = roster.names().get(random.nextInt(roster.names().size()));
+                    String fragment = name.split(" ")[0];
+                    yield builder.uri(URI.create(
+                                    apiBase + "/search/" + URLEncoder.encode(fragment, StandardCharsets.UTF_8)))
+                            .GET()
+                            .build();
+                }
+                case BY_ID -> builder.uri(URI.create(apiBase + "/" + randomId()))
+                        .GET()
+                        .build();
+                case HIGHEST_SALARY -> builder.uri(URI.create(apiBase + "/highest-salary"))
+                        .GET()
+                        .build();
+                case TOP_TEN -> builder.uri(URI.create(apiBase + "/top-ten-highest-earning"))
+                        .GET()
+                        .build();
+                case CREATE -> builder.uri(apiBase)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"name\":\"Load Test %d\",\"salary\":50000,\"age\":30,\"title\":\"Tester\"}"
+                                        .formatted(created.incrementAndGet())))
+                        .build();
+                case DELETE -> builder.uri(URI.create(apiBase + "/" + randomId()))
+                        .DELETE()
+                        .build();
+            };
+        }
+
+        private String randomId() {
+            return roster.ids().get(random.nextInt(roster.ids().size()));
+        }
+    }
+}
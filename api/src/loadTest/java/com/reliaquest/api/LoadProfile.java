@@ -0,0 +1,128 @@
+package com.reliaquest.api;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Settings for {@link EndToEndLoadTest}, read from {@code load.*} system properties so that runs can be varied from
+ * the Gradle command line without editing the test.
+ *
+ * <ul>
+ *   <li>{@code load.rate}: requests started per second, independent of how fast responses come back
+ *   <li>{@code load.concurrency}: most requests in flight; arrivals beyond it queue, and their queueing time is
+ *       counted in their latency
+ *   <li>{@code load.duration}, {@code load.warmup}: measured time, and unmeasured time before it
+ *   <li>{@code load.mix}: relative weights per endpoint, e.g. {@code by-id=40,all=20,search=20}
+ *   <li>{@code load.employees}: roster size seeded on the mock server
+ *   <li>{@code load.rate-limit}: the mock server's limiter, {@code off}, {@code random}, {@code fixed} or
+ *       {@code token-bucket}, with {@code load.rate-limit.limit} and {@code load.rate-limit.window} for the last two
+ *   <li>{@code load.client-mode}: the api's upstream client, {@code blocking} or {@code async}
+ * </ul>
+ */
+record LoadProfile(
+        int rate,
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        Map<Endpoint, Integer> mix,
+        int employees,
+        String rateLimitMode,
+        int rateLimit,
+        Duration rateLimitWindow,
+        String clientMode) {
+
+    private static final String DEFAULT_MIX =
+            "all=15,search=15,by-id=45,highest-salary=10,top-ten=10,create=5,delete=0";
+
+    enum Endpoint {
+        ALL,
+        SEARCH,
+        BY_ID,
+        HIGHEST_SALARY,
+        TOP_TEN,
+        CREATE,
+        DELETE;
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Integer.getInteger("load.rate", 100),
+                Integer.getInteger("load.concurrency", 64),
+                duration("load.duration", "30s"),
+                duration("load.warmup", "5s"),
+                mix(System.getProperty("load.mix", DEFAULT_MIX)),
+                Integer.getInteger("load.employees", 1000),
+                System.getProperty("load.rate-limit", "off"),
+                Integer.getInteger("load.rate-limit.limit", 50),
+                duration("load.rate-limit.window", "1s"),
+                System.getProperty("load.client-mode", "blocking"));
+    }
+
+    /**
+     * Picks an endpoint with probability proportional to its weight.
+     */
+    Endpoint pick(SplittableRandom random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = random.nextInt(total);
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty endpoint mix");
+    }
+
+    @Override
+    public String toString() {
+        return "rate=%d/s concurrency=%d duration=%s warmup=%s employees=%d rate-limit=%s client=%s mix=%s"
+                .formatted(
+                        rate,
+                        concurrency,
+                        duration,
+                        warmup,
+                        employees,
+                        "fixed".equals(rateLimitMode) || "token-bucket".equals(rateLimitMode)
+                                ? rateLimitMode + "(" + rateLimit + "/" + rateLimitWindow + ")"
+                                : rateLimitMode,
+                        clientMode,
+                        mix);
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+
+    private static Map<Endpoint, Integer> mix(String spec) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String part : spec.split(",")) {
+            String[] keyAndWeight = part.trim().split("=");
+            int weight = Integer.parseInt(keyAndWeight[1].trim());
+            if (weight <= 0) {
+                continue;
+            }
+            Endpoint endpoint = null;
+            for (Endpoint candidate : Endpoint.values()) {
+                if (candidate.key().equals(keyAndWeight[0].trim())) {
+                    endpoint = candidate;
+                }
+            }
+            if (endpoint == null) {
+                throw new IllegalArgumentException("Unknown endpoint in load.mix: " + keyAndWeight[0]);
+            }
+            mix.put(endpoint, weight);
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("load.mix has no endpoint with a positive weight");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,183 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares the highest concurrency the api module sustains with Tomcat's platform-thread pool against the
+ * virtual-threads profile, with every request making one blocking upstream call.
+ *
+ * <p>A concurrency level counts as sustained when every request succeeds and throughput reaches
+ * {@link #SUSTAINED_FRACTION} of what the upstream latency allows at that level. The platform pool is capped at
+ * {@link #PLATFORM_THREADS} threads so the ceiling shows up within the ramp.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21, disabledReason = "virtual threads need Java 21; run with -PjavaVersion=21")
+class VirtualThreadConcurrencyLoadTest {
+
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(100);
+    private static final Duration STEP = Duration.ofSeconds(3);
+    private static final int[] CONCURRENCY = {25, 50, 100, 200, 400, 800};
+    private static final int PLATFORM_THREADS = 50;
+    private static final double SUSTAINED_FRACTION = 0.8;
+
+    private static final String EMPLOYEE = "{\"data\":[{\"id\":\"%s\",\"employee_name\":\"Load Test\","
+            + "\"employee_salary\":1000,\"employee_age\":30,\"employee_title\":\"Tester\","
+            + "\"employee_email\":\"load@company.com\"}],\"status\":\"Successfully processed request.\"}";
+
+    private MockWebServer upstream;
+    private HttpClient http;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = new MockWebServer();
+        upstream.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                String id = path.substring(path.lastIndexOf('/') + 1);
+                return new MockResponse()
+                        .addHeader("Content-Type", "application/json")
+                        .setBody(EMPLOYEE.formatted(id))
+                        .setHeadersDelay(UPSTREAM_LATENCY.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        });
+        upstream.start();
+        http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        upstream.shutdown();
+    }
+
+    @Test
+    void virtualThreadsSustainAtLeastThePlatformPoolsConcurrency() throws Exception {
+        int platform = maxSustainedConcurrency(false);
+        int virtual = maxSustainedConcurrency(true);
+
+        System.out.printf("max sustained concurrency: platform threads=%d, virtual threads=%d%n", platform, virtual);
+        assertTrue(
+                virtual >= CONCURRENCY[0] || platform >= CONCURRENCY[0],
+                "neither mode sustained the first step; the test measured nothing");
+        assertTrue(virtual >= platform, "virtual-thread mode sustained less concurrency than platform threads");
+    }
+
+    private int maxSustainedConcurrency(boolean virtualThreads) throws InterruptedException {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(ApiApplication.class);
+        if (virtualThreads) {
+            application.profiles("virtual-threads");
+        }
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = application.run(
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + PLATFORM_THREADS,
+                "--employee.api.base-url=" + upstream.url("/api/v1/employee"),
+                "--employee.api.rate-limit.enabled=false",
+                "--employee.api.http.max-connections=2000",
+                "--employee.api.http.max-connections-per-route=2000",
+                "--employee.api.bulkhead.max-concurrent-calls=2000",
+                "--logging.level.com.reliaquest=WARN")) {
+            URI base = URI.create(
+                    "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/employee/");
+
+            drive(base, CONCURRENCY[0]);
+            int sustained = 0;
+            for (int concurrency : CONCURRENCY) {
+                Step step = drive(base, concurrency);
+                double ideal = concurrency * 1000.0 / UPSTREAM_LATENCY.toMillis();
+                System.out.printf(
+                        "%-8s concurrency=%4d throughput=%7.1f/s (ideal %7.1f/s) p99=%5dms errors=%d%n",
+                        mode,
+                        concurrency,
+                        step.throughput(),
+                        ideal,
+                        TimeUnit.NANOSECONDS.toMillis(step.percentile(0.99)),
+                        step.errors.get());
+                if (step.errors.get() > 0 || step.throughput() < SUSTAINED_FRACTION * ideal) {
+                    break;
+                }
+                sustained = concurrency;
+            }
+            return sustained;
+        }
+    }
+
+    /**
+     * Runs {@code concurrency} closed-loop clients for one {@link #STEP}, each asking for a fresh id so that no two
+     * requests are coalesced into one upstream call.
+     */
+    private Step drive(URI base, int concurrency) throws InterruptedException {
+        Step step = new Step(System.nanoTime() + STEP.toNanos(), concurrency);
+        for (int client = 0; client < concurrency; client++) {
+            next(base, step);
+        }
+        step.done.await();
+        return step;
+    }
+
+    private void next(URI base, Step step) {
+        if (System.nanoTime() >= step.end) {
+            step.done.countDown();
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(base.resolve(UUID.randomUUID().toString()))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        long start = System.nanoTime();
+        http.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            if (failure == null && response.statusCode() == 200) {
+                step.latencies.add(System.nanoTime() - start);
+            } else {
+                step.errors.incrementAndGet();
+            }
+            next(base, step);
+        });
+    }
+
+    private static final class Step {
+
+        private final long end;
+        private final CountDownLatch done;
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        Step(long end, int concurrency) {
+            this.end = end;
+            this.done = new CountDownLatch(concurrency);
+        }
+
+        double throughput() {
+            return latencies.size() / (STEP.toMillis() / 1000.0);
+        }
+
+        long percentile(double percentile) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, percentile * sorted.length)];
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.RosterChanges;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stale-while-revalidate cache of the upstream roster.
+ *
+ * <p>Readers always get the current {@link RosterSnapshot} without waiting; once the snapshot is older than the
+ * configured TTL a single background refresh is started and the old snapshot keeps being served until it completes.
+ * The only time a reader blocks is when no snapshot has been loaded yet, and even then concurrent readers share the
+ * same in-flight load.
+ */
+@Slf4j
+@Component
+public class EmployeeRosterCache {
+
+    private final EmployeeApiClient client;
+    private final Executor refreshExecutor;
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+
+    private final AtomicReference<RosterSnapshot> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<RosterSnapshot>> inFlight = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicLong localChanges = new AtomicLong();
+    private volatile long lastFailureNanos;
+
+    // Only touched by reload, which never runs concurrently with itself.
+    private List<Employee> loadedFrom;
+    private long loadedVersion;
+
+    @Value("${employee.api.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${employee.api.cache.change-feed:true}")
+    private boolean changeFeed = true;
+
+    @Value("${employee.api.cache.ttl:30s}")
+    private Duration ttl = Duration.ofSeconds(30);
+
+    @Value("${employee.api.cache.failure-backoff:5s}")
+    private Duration failureBackoff = Duration.ofSeconds(5);
+
+    public EmployeeRosterCache(
+            EmployeeApiClient client,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor refreshExecutor,
+            MeterRegistry meterRegistry) {
+        this.client = client;
+        this.refreshExecutor = refreshExecutor;
+        this.hits = readCounter(meterRegistry, "hit");
+        this.staleHits = readCounter(meterRegistry, "stale");
+        this.misses = readCounter(meterRegistry, "miss");
+        Gauge.builder("employee.api.cache.snapshot.age", this, EmployeeRosterCache::snapshotAgeSeconds)
+                .baseUnit("seconds")
+                .description("Age of the roster snapshot being served, 0 before the first load")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether reads should be served from snapshots. When {@code false} callers stream the roster from upstream on
+     * every read instead, trading latency and upstream load for a heap that does not hold the roster between requests.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the current snapshot, scheduling a background refresh when it is stale. Blocks only for the very first
+     * load.
+     */
+    public RosterSnapshot snapshot() {
+        RosterSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            misses.increment();
+            return join(refresh());
+        }
+        revalidateIfStale(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * The snapshot already held, or null when the cache is off or nothing is loaded yet. Never loads or refreshes, for
+     * callers that only want to skip a round trip when the answer happens to be at hand.
+     */
+    public RosterSnapshot peek() {
+        return enabled ? current.get() : null;
+    }
+
+    /**
+     * Non-blocking form of {@link #snapshot()}: the returned future is already complete unless no snapshot has been
+     * loaded yet, in which case it completes with the first load.
+     */
+    public CompletableFuture<RosterSnapshot> snapshotAsync() {
+        RosterSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            misses.increment();
+            return refresh();
+        }
+        revalidateIfStale(snapshot);
+        return CompletableFuture.completedFuture(snapshot);
+    }
+
+    /**
+     * Starts a refresh unless one is already running, in which case the running one is returned.
+     */
+    public CompletableFuture<RosterSnapshot> refresh() {
+        while (true) {
+            CompletableFuture<RosterSnapshot> existing = inFlight.get();
+            if (existing != null) {
+                return existing;
+            }
+
+            CompletableFuture<RosterSnapshot> next = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, next)) {
+                try {
+                    refreshExecutor.execute(() -> load(next));
+                } catch (RejectedExecutionException ex) {
+                    inFlight.compareAndSet(next, null);
+                    next.completeExceptionally(ex);
+                }
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Appends an employee that was just created upstream to the current snapshot, so reads reflect it without waiting
+     * for the next refresh.
+     */
+    public void applyCreated(Employee employee) {
+        if (employee != null) {
+            update(snapshot -> snapshot.withAdded(versions.incrementAndGet(), employee));
+        }
+    }
+
+    /**
+     * Appends employees that were just created upstream, in order, as one change to the current snapshot.
+     */
+    public void applyCreated(List<Employee> employees) {
+        List<Employee> created = employees.stream().filter(Objects::nonNull).toList();
+        if (!created.isEmpty()) {
+            update(snapshot -> snapshot.withAdded(versions.incrementAndGet(), created));
+        }
+    }
+
+    /**
+     * Removes an employee that was just deleted upstream from the current snapshot.
+     */
+    public void applyDeleted(String id) {
+        update(snapshot -> snapshot.withRemoved(versions.incrementAndGet(), id));
+    }
+
+    private void update(UnaryOperator<RosterSnapshot> change) {
+        localChanges.incrementAndGet();
+        while (true) {
+            RosterSnapshot snapshot = current.get();
+            if (snapshot == null) {
+                return;
+            }
+            RosterSnapshot next = change.apply(snapshot);
+            if (next == snapshot || current.compareAndSet(snapshot, next)) {
+                return;
+            }
+        }
+    }
+
+    private void load(CompletableFuture<RosterSnapshot> target) {
+        try {
+            RosterSnapshot snapshot = changeFeed ? catchUp() : null;
+            if (snapshot == null) {
+                snapshot = reload();
+            }
+            log.debug("Loaded roster snapshot v{} with {} employees", snapshot.getVersion(), snapshot.size());
+            inFlight.compareAndSet(target, null);
+            target.complete(snapshot);
+        } catch (RuntimeException ex) {
+            lastFailureNanos = System.nanoTime();
+            inFlight.compareAndSet(target, null);
+            log.warn("Roster refresh failed: {}", ex.toString());
+            target.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Brings the current snapshot up to date from the upstream's change feed, doing work proportional to what changed
+     * rather than to the roster. Returns {@code null} when there is no cursor to continue from, the feed cannot be
+     * read, or the upstream no longer has the changes and asks for a full reload.
+     */
+    private RosterSnapshot catchUp() {
+        RosterSnapshot base = current.get();
+        if (base == null || base.getCursor() == null) {
+            return null;
+        }
+        RosterChanges changes;
+        try {
+            changes = client.getRosterChanges(base.getCursor());
+        } catch (RuntimeException ex) {
+            log.warn("Roster change feed failed, reloading in full: {}", ex.toString());
+            return null;
+        }
+        if (changes.isResync()) {
+            log.debug("Roster change feed cannot continue from {}, reloading in full", base.getCursor());
+            return null;
+        }
+
+        long loadedAt = System.nanoTime();
+        while (true) {
+            RosterSnapshot next =
+                    base.withChanges(versions.incrementAndGet(), changes.getCursor(), changes.getChanges(), loadedAt);
+            // Changes apply idempotently, so if a local change got in first they can simply be applied again on top.
+            if (current.compareAndSet(base, next)) {
+                return next;
+            }
+            base = current.get();
+        }
+    }
+
+    private RosterSnapshot reload() {
+        long changesBefore = localChanges.get();
+        long startedAt = System.nanoTime();
+        List<Employee> employees = client.getAllEmployees();
+        // A local change that raced with the fetch may be missing from it; keep the result but let the next
+        // read revalidate instead of trusting it for a whole TTL.
+        long loadedAt = localChanges.get() == changesBefore ? System.nanoTime() : startedAt - ttl.toNanos();
+        RosterSnapshot previous = current.get();
+        // The client hands back the very same list when the upstream confirmed it unchanged; unless a local change
+        // has been applied since, the snapshot built from it is still exact and only needs its age reset.
+        boolean unchanged = employees == loadedFrom && previous != null && previous.getVersion() == loadedVersion;
+        RosterSnapshot snapshot = unchanged
+                ? previous.revalidated(loadedAt)
+                : new RosterSnapshot(versions.incrementAndGet(), employees, loadedAt, client.cursorOf(employees));
+        loadedFrom = employees;
+        loadedVersion = snapshot.getVersion();
+        current.set(snapshot);
+        return snapshot;
+    }
+
+    private void revalidateIfStale(RosterSnapshot snapshot) {
+        long now = System.nanoTime();
+        if (!snapshot.isOlderThan(ttl, now)) {
+            hits.increment();
+            return;
+        }
+        staleHits.increment();
+        if (!isBackingOff(now)) {
+            log.debug("Roster snapshot v{} is stale, revalidating in background", snapshot.getVersion());
+            refresh();
+        }
+    }
+
+    private double snapshotAgeSeconds() {
+        RosterSnapshot snapshot = current.get();
+        return snapshot != null ? (System.nanoTime() - snapshot.getLoadedAtNanos()) / 1e9 : 0;
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.api.cache.reads")
+                .tag("result", result)
+                .description("Roster cache reads by result; stale reads are served while revalidating")
+                .register(meterRegistry);
+    }
+
+    private boolean isBackingOff(long now) {
+        long failedAt = lastFailureNanos;
+        return failedAt != 0 && now - failedAt < failureBackoff.toNanos();
+    }
+
+    private static RosterSnapshot join(CompletableFuture<RosterSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new EmployeeApiException("Roster refresh failed", ex.getCause());
+        }
+    }
+}
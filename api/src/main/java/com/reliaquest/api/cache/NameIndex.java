@@ -0,0 +1,265 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Case-folded trigram index over employee names for one roster version.
+ *
+ * <p>Names are folded with {@link String#toLowerCase()} exactly once when the index is built. A search folds the query
+ * once, intersects the posting lists of its trigrams and then checks each remaining candidate with
+ * {@link String#contains}, so the result is identical to a lowercase substring scan of the roster, in roster order.
+ * Queries shorter than a trigram fall back to scanning the pre-folded names, which still allocates nothing per
+ * employee.
+ *
+ * <p>An index can be carried over to the next roster version instead of being rebuilt: {@link #withAdded} indexes
+ * only the appended employees, in a small map of postings beside the shared ones, and {@link #withRemoved} only marks
+ * positions as gone. Each carry-over costs time in proportion to the changes since the last full build, so once those
+ * outnumber the square root of the positions the full build covered, both return {@code null} and the next search pays
+ * for one full build again.
+ */
+public final class NameIndex {
+
+    static final int GRAM = 3;
+    private static final int[] NO_POSTINGS = new int[0];
+    private static final int MIN_DRIFT = 64;
+
+    // By position, including removed employees until the next full build.
+    private final List<Employee> employees;
+    private final String[] foldedNames;
+    private final Map<Long, int[]> postings;
+    private final int built;
+
+    // Postings for positions appended since the full build, all above every position in postings.
+    private final Map<Long, int[]> appended;
+    private final BitSet removed;
+
+    private NameIndex(List<Employee> employees, String[] foldedNames, Map<Long, int[]> postings) {
+        this(employees, foldedNames, postings, employees.size(), Map.of(), new BitSet());
+    }
+
+    private NameIndex(
+            List<Employee> employees,
+            String[] foldedNames,
+            Map<Long, int[]> postings,
+            int built,
+            Map<Long, int[]> appended,
+            BitSet removed) {
+        this.employees = employees;
+        this.foldedNames = foldedNames;
+        this.postings = postings;
+        this.built = built;
+        this.appended = appended;
+        this.removed = removed;
+    }
+
+    public static NameIndex of(List<Employee> employees) {
+        String[] folded = new String[employees.size()];
+        Map<Long, PostingList> building = new HashMap<>();
+        for (int position = 0; position < folded.length; position++) {
+            String name = employees.get(position).getEmployee_name();
+            if (name == null) {
+                continue;
+            }
+            folded[position] = name.toLowerCase();
+            for (int i = 0; i + GRAM <= folded[position].length(); i++) {
+                building.computeIfAbsent(gram(folded[position], i), ignored -> new PostingList())
+                        .add(position);
+            }
+        }
+
+        Map<Long, int[]> postings = new HashMap<>(building.size() * 4 / 3 + 1);
+        building.forEach((gram, list) -> postings.put(gram, list.toArray()));
+        return new NameIndex(employees, folded, postings);
+    }
+
+    /**
+     * Employees whose name contains {@code fragment}, ignoring case.
+     */
+    public List<Employee> search(String fragment) {
+        String query = fragment.toLowerCase();
+        List<Employee> matches = new ArrayList<>();
+        if (query.length() < GRAM) {
+            for (int position = 0; position < foldedNames.length; position++) {
+                if (foldedNames[position] != null && !removed.get(position) && foldedNames[position].contains(query)) {
+                    matches.add(employees.get(position));
+                }
+            }
+            return matches;
+        }
+
+        int[] candidates = candidates(query);
+        for (int position : candidates) {
+            if (!removed.get(position) && foldedNames[position].contains(query)) {
+                matches.add(employees.get(position));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * This index with {@code added} appended after every current position, or {@code null} once a full build is due.
+     */
+    NameIndex withAdded(List<Employee> added) {
+        if (added.isEmpty()) {
+            return this;
+        }
+        int size = employees.size() + added.size();
+        if (drift(size, removed.cardinality()) > maxDrift()) {
+            return null;
+        }
+        List<Employee> nextEmployees = new ArrayList<>(size);
+        nextEmployees.addAll(employees);
+        nextEmployees.addAll(added);
+        String[] nextFolded = Arrays.copyOf(foldedNames, size);
+        Map<Long, int[]> nextAppended = new HashMap<>(appended);
+        for (int position = employees.size(); position < size; position++) {
+            String name = nextEmployees.get(position).getEmployee_name();
+            if (name == null) {
+                continue;
+            }
+            nextFolded[position] = name.toLowerCase();
+            for (int i = 0; i + GRAM <= nextFolded[position].length(); i++) {
+                int[] list = nextAppended.getOrDefault(gram(nextFolded[position], i), NO_POSTINGS);
+                if (list.length == 0 || list[list.length - 1] != position) {
+                    int[] grown = Arrays.copyOf(list, list.length + 1);
+                    grown[list.length] = position;
+                    nextAppended.put(gram(nextFolded[position], i), grown);
+                }
+            }
+        }
+        return new NameIndex(
+                Collections.unmodifiableList(nextEmployees), nextFolded, postings, built, nextAppended, removed);
+    }
+
+    /**
+     * This index without the employees whose id is in {@code ids}, or {@code null} once a full build is due.
+     */
+    NameIndex withRemoved(Collection<String> ids) {
+        BitSet nextRemoved = (BitSet) removed.clone();
+        for (int position = 0; position < employees.size(); position++) {
+            if (!nextRemoved.get(position) && ids.contains(employees.get(position).getId())) {
+                nextRemoved.set(position);
+            }
+        }
+        if (nextRemoved.equals(removed)) {
+            return this;
+        }
+        if (drift(employees.size(), nextRemoved.cardinality()) > maxDrift()) {
+            return null;
+        }
+        return new NameIndex(employees, foldedNames, postings, built, appended, nextRemoved);
+    }
+
+    private int drift(int size, int removedCount) {
+        return size - built + removedCount;
+    }
+
+    private int maxDrift() {
+        return Math.max(MIN_DRIFT, (int) Math.sqrt(built));
+    }
+
+    /**
+     * The test {@link #search} applies, for filtering employees that were never indexed, such as a roster being
+     * streamed from upstream. The fragment is folded once, up front.
+     */
+    public static Predicate<Employee> matching(String fragment) {
+        String query = fragment.toLowerCase();
+        return employee -> {
+            String name = employee.getEmployee_name();
+            return name != null && name.toLowerCase().contains(query);
+        };
+    }
+
+    private int[] candidates(String query) {
+        Map<Long, int[]> lists = new LinkedHashMap<>();
+        for (int i = 0; i + GRAM <= query.length(); i++) {
+            long gram = gram(query, i);
+            int[] list = postings(gram);
+            if (list.length == 0) {
+                return NO_POSTINGS;
+            }
+            lists.put(gram, list);
+        }
+
+        int[][] ordered = lists.values().toArray(new int[0][]);
+        Arrays.sort(ordered, Comparator.comparingInt(list -> list.length));
+        int[] result = ordered[0];
+        for (int i = 1; i < ordered.length && result.length > 0; i++) {
+            result = intersect(result, ordered[i]);
+        }
+        return result;
+    }
+
+    private int[] postings(long gram) {
+        int[] base = postings.getOrDefault(gram, NO_POSTINGS);
+        int[] added = appended.getOrDefault(gram, NO_POSTINGS);
+        if (added.length == 0) {
+            return base;
+        }
+        int[] all = Arrays.copyOf(base, base.length + added.length);
+        System.arraycopy(added, 0, all, base.length, added.length);
+        return all;
+    }
+
+    /**
+     * Intersects two ascending position lists. The smaller list drives the walk and the larger is searched with a
+     * galloping binary search, so a rare trigram keeps the whole query cheap.
+     */
+    static int[] intersect(int[] small, int[] large) {
+        int[] out = new int[small.length];
+        int size = 0;
+        int from = 0;
+        for (int value : small) {
+            int bound = 1;
+            while (from + bound < large.length && large[from + bound] < value) {
+                bound <<= 1;
+            }
+            int found = Arrays.binarySearch(large, from, Math.min(from + bound + 1, large.length), value);
+            if (found >= 0) {
+                out[size++] = value;
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+            if (from >= large.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    private static long gram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    private static final class PostingList {
+        private int[] positions = new int[4];
+        private int size;
+
+        void add(int position) {
+            // A name repeating the same trigram must only be listed once.
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
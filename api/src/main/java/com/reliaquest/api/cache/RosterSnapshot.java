@@ -0,0 +1,230 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.RosterChange;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Immutable view of the upstream roster as of one successful fetch. Every snapshot carries a monotonically increasing
+ * version so derived structures can be tied to the exact roster they were computed from.
+ */
+@Getter
+public final class RosterSnapshot {
+
+    public static final int TOP_EARNERS = 10;
+
+    private final long version;
+    private final List<Employee> employees;
+    private final long loadedAtNanos;
+    private final SalaryAggregates salaries;
+
+    /**
+     * Where this roster stands in the upstream's change feed, or {@code null} when the upstream did not say.
+     */
+    private final String cursor;
+
+    @Getter(AccessLevel.NONE)
+    private volatile NameIndex nameIndex;
+
+    @Getter(AccessLevel.NONE)
+    private volatile Map<String, Employee> byId;
+
+    // A lock rather than a monitor so that virtual threads waiting for an index do not pin their carriers.
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock indexLock = new ReentrantLock();
+
+    RosterSnapshot(long version, List<Employee> employees, long loadedAtNanos) {
+        this(version, employees, loadedAtNanos, (String) null);
+    }
+
+    RosterSnapshot(long version, List<Employee> employees, long loadedAtNanos, String cursor) {
+        this.version = version;
+        this.employees = employees == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(employees));
+        this.loadedAtNanos = loadedAtNanos;
+        this.salaries = SalaryAggregates.of(this.employees, TOP_EARNERS);
+        this.cursor = cursor;
+    }
+
+    private RosterSnapshot(
+            long version, List<Employee> employees, long loadedAtNanos, SalaryAggregates salaries, String cursor) {
+        this.version = version;
+        this.employees = employees;
+        this.loadedAtNanos = loadedAtNanos;
+        this.salaries = salaries;
+        this.cursor = cursor;
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * Name index for this snapshot, built on first use. A snapshot derived from one whose index was already built,
+     * through local creates and deletes or a batch of upstream changes, carries that index over with just the changed
+     * employees applied, so a search after a write does not pay for a full build.
+     */
+    public NameIndex getNameIndex() {
+        NameIndex index = nameIndex;
+        if (index == null) {
+            indexLock.lock();
+            try {
+                index = nameIndex;
+                if (index == null) {
+                    index = NameIndex.of(employees);
+                    nameIndex = index;
+                }
+            } finally {
+                indexLock.unlock();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * The employee with {@code id} on this roster, or {@code null}. Like the name index, the id map behind this is
+     * built on first use.
+     */
+    public Employee findById(String id) {
+        Map<String, Employee> index = byId;
+        if (index == null) {
+            indexLock.lock();
+            try {
+                index = byId;
+                if (index == null) {
+                    index = new HashMap<>((int) (employees.size() / 0.75f) + 1);
+                    for (Employee employee : employees) {
+                        index.putIfAbsent(employee.getId(), employee);
+                    }
+                    byId = index;
+                }
+            } finally {
+                indexLock.unlock();
+            }
+        }
+        return index.get(id);
+    }
+
+    boolean isOlderThan(Duration ttl, long nowNanos) {
+        return nowNanos - loadedAtNanos >= ttl.toNanos();
+    }
+
+    /**
+     * This same roster, confirmed unchanged upstream at {@code loadedAtNanos}. Keeps the version and everything derived
+     * from the roster, including a name index that was already built.
+     */
+    RosterSnapshot revalidated(long loadedAtNanos) {
+        return revalidated(loadedAtNanos, cursor);
+    }
+
+    private RosterSnapshot revalidated(long loadedAtNanos, String nextCursor) {
+        RosterSnapshot next = new RosterSnapshot(version, employees, loadedAtNanos, salaries, nextCursor);
+        next.nameIndex = nameIndex;
+        next.byId = byId;
+        return next;
+    }
+
+    /**
+     * This roster with a batch of upstream changes applied, positioned at {@code nextCursor}.
+     *
+     * <p>Changes are applied idempotently, so an employee this cache already added or removed locally is not added or
+     * removed twice. The cost is one copy of the list plus work proportional to the changes; the salary aggregates are
+     * only recomputed when a deleted employee was one of the top earners. With no changes the snapshot, name index
+     * included, is kept and only moved to the new cursor.
+     */
+    RosterSnapshot withChanges(long nextVersion, String nextCursor, List<RosterChange> changes, long loadedAtNanos) {
+        if (changes == null || changes.isEmpty()) {
+            return revalidated(loadedAtNanos, nextCursor);
+        }
+        Set<String> deleted = new HashSet<>();
+        Map<String, Employee> created = new LinkedHashMap<>();
+        for (RosterChange change : changes) {
+            Employee employee = change.getEmployee();
+            if (employee == null || employee.getId() == null) {
+                continue;
+            }
+            if (change.getType() == RosterChange.Type.DELETED) {
+                created.remove(employee.getId());
+                deleted.add(employee.getId());
+            } else {
+                created.put(employee.getId(), employee);
+            }
+        }
+
+        List<Employee> next = new ArrayList<>(employees.size() + created.size());
+        for (Employee employee : employees) {
+            if (deleted.contains(employee.getId())) {
+                continue;
+            }
+            // Already here because it was created through this service; keep the copy in place.
+            created.remove(employee.getId());
+            next.add(employee);
+        }
+        next.addAll(created.values());
+        List<Employee> remaining = Collections.unmodifiableList(next);
+
+        SalaryAggregates nextSalaries = salaries;
+        for (Employee employee : created.values()) {
+            nextSalaries = nextSalaries.withAdded(employee);
+        }
+        for (String id : deleted) {
+            nextSalaries = nextSalaries.withRemoved(id, remaining);
+        }
+        RosterSnapshot snapshot = new RosterSnapshot(nextVersion, remaining, loadedAtNanos, nextSalaries, nextCursor);
+        NameIndex index = nameIndex;
+        index = index != null ? index.withRemoved(deleted) : null;
+        snapshot.nameIndex = index != null ? index.withAdded(new ArrayList<>(created.values())) : null;
+        return snapshot;
+    }
+
+    RosterSnapshot withAdded(long nextVersion, Employee employee) {
+        return withAdded(nextVersion, List.of(employee));
+    }
+
+    /**
+     * This roster with {@code added} appended in order, for one copy of the list however many there are.
+     */
+    RosterSnapshot withAdded(long nextVersion, List<Employee> added) {
+        List<Employee> next = new ArrayList<>(employees.size() + added.size());
+        next.addAll(employees);
+        next.addAll(added);
+        SalaryAggregates nextSalaries = salaries;
+        for (Employee employee : added) {
+            nextSalaries = nextSalaries.withAdded(employee);
+        }
+        List<Employee> all = Collections.unmodifiableList(next);
+        RosterSnapshot snapshot = new RosterSnapshot(nextVersion, all, loadedAtNanos, nextSalaries, cursor);
+        NameIndex index = nameIndex;
+        snapshot.nameIndex = index != null ? index.withAdded(added) : null;
+        return snapshot;
+    }
+
+    RosterSnapshot withRemoved(long nextVersion, String id) {
+        List<Employee> next = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            if (!Objects.equals(employee.getId(), id)) {
+                next.add(employee);
+            }
+        }
+        if (next.size() == employees.size()) {
+            return this;
+        }
+        List<Employee> remaining = Collections.unmodifiableList(next);
+        RosterSnapshot snapshot =
+                new RosterSnapshot(nextVersion, remaining, loadedAtNanos, salaries.withRemoved(id, remaining), cursor);
+        NameIndex index = nameIndex;
+        snapshot.nameIndex = index != null ? index.withRemoved(Set.of(id)) : null;
+        return snapshot;
+    }
+}
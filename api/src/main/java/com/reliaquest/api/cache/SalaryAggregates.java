@@ -0,0 +1,143 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Highest salary and bounded top-K earners for one roster version.
+ *
+ * <p>The top-K is kept as two parallel arrays ordered by salary descending, with ties in roster order, which is exactly
+ * what a stable {@code sorted(...).limit(k)} over the roster produces. Building costs one pass over the roster with a
+ * primitive comparison against the current K-th salary; reads are constant time.
+ */
+public final class SalaryAggregates {
+
+    private static final int NO_SALARY = 0;
+
+    private final int capacity;
+    private final int[] salaries;
+    private final Employee[] earners;
+    private final List<String> topNames;
+
+    private SalaryAggregates(int capacity, int[] salaries, Employee[] earners) {
+        this.capacity = capacity;
+        this.salaries = salaries;
+        this.earners = earners;
+        String[] names = new String[earners.length];
+        for (int i = 0; i < earners.length; i++) {
+            names[i] = earners[i].getEmployee_name();
+        }
+        this.topNames = Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    public static SalaryAggregates of(List<Employee> employees, int capacity) {
+        Accumulator accumulator = new Accumulator(capacity);
+        for (Employee employee : employees) {
+            accumulator.accept(employee);
+        }
+        return accumulator.build();
+    }
+
+    /**
+     * Highest salary on the roster, or {@code 0} when the roster is empty.
+     */
+    public int getMaxSalary() {
+        return salaries.length == 0 ? NO_SALARY : salaries[0];
+    }
+
+    /**
+     * Names of the top earners, highest first. Holds at most the configured capacity.
+     */
+    public List<String> getTopNames() {
+        return topNames;
+    }
+
+    /**
+     * Aggregates after {@code employee} has been appended to the roster. Costs O(K).
+     */
+    SalaryAggregates withAdded(Employee employee) {
+        if (employee == null || employee.getEmployee_salary() == null) {
+            return this;
+        }
+        int salary = employee.getEmployee_salary();
+        if (salaries.length == capacity && salary <= salaries[capacity - 1]) {
+            return this;
+        }
+
+        Accumulator accumulator = new Accumulator(capacity, salaries, earners);
+        accumulator.accept(employee);
+        return accumulator.build();
+    }
+
+    /**
+     * Aggregates after the employee with {@code id} has been removed. Constant time unless the removed employee was
+     * one of the top earners, in which case the K-th place has to be refilled from {@code remaining}.
+     */
+    SalaryAggregates withRemoved(String id, List<Employee> remaining) {
+        for (Employee earner : earners) {
+            if (Objects.equals(earner.getId(), id)) {
+                return of(remaining, capacity);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Single-pass collector that keeps the top-K salaries seen so far. Also usable on a stream of employees that is
+     * never materialized as a list.
+     */
+    public static final class Accumulator {
+
+        private final int capacity;
+        private final int[] salaries;
+        private final Employee[] earners;
+        private int size;
+
+        public Accumulator(int capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("capacity must be positive: " + capacity);
+            }
+            this.capacity = capacity;
+            this.salaries = new int[capacity];
+            this.earners = new Employee[capacity];
+        }
+
+        private Accumulator(int capacity, int[] salaries, Employee[] earners) {
+            this(capacity);
+            System.arraycopy(salaries, 0, this.salaries, 0, salaries.length);
+            System.arraycopy(earners, 0, this.earners, 0, earners.length);
+            this.size = salaries.length;
+        }
+
+        public void accept(Employee employee) {
+            Integer boxed = employee == null ? null : employee.getEmployee_salary();
+            if (boxed == null) {
+                return;
+            }
+            int salary = boxed;
+            if (size == capacity && salary <= salaries[capacity - 1]) {
+                return;
+            }
+
+            // Later entries lose ties, so the new one goes after every salary greater than or equal to its own.
+            int position = size == capacity ? capacity - 1 : size;
+            while (position > 0 && salaries[position - 1] < salary) {
+                salaries[position] = salaries[position - 1];
+                earners[position] = earners[position - 1];
+                position--;
+            }
+            salaries[position] = salary;
+            earners[position] = employee;
+            if (size < capacity) {
+                size++;
+            }
+        }
+
+        public SalaryAggregates build() {
+            return new SalaryAggregates(capacity, Arrays.copyOf(salaries, size), Arrays.copyOf(earners, size));
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client-side model of the upstream's request limit.
+ *
+ * <p>The mock server admits a fixed number of requests and then answers 429 until a fixed window has passed since the
+ * last admitted one. This limiter learns both numbers from what it observes: the number of accepted calls before a 429
+ * becomes the estimated limit, and every 429 or first success after one narrows a lower and upper bound on the window.
+ * With an estimate in hand, calls beyond the limit are held back before they reach the wire instead of being spent on
+ * a guaranteed 429; windows that pass without a 429 probe for one more call, up to the last limit that overshot. A
+ * {@code Retry-After} header, when present, always wins over the estimate, except one of zero or in the past: a 429
+ * always holds calls back for a while, at least the probe backoff.
+ *
+ * <p>Callers wait for the next window only when it opens within their allowed wait; otherwise they fail fast with
+ * {@link UpstreamRateLimitedException}.
+ */
+@Slf4j
+@Component
+public class AdaptiveRateLimiter {
+
+    private static final long MIN_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Counter permitted;
+    private final Counter delayed;
+    private final Counter rejected;
+
+    @Value("${employee.api.rate-limit.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${employee.api.rate-limit.max-wait:2s}")
+    private Duration maxWait = Duration.ofSeconds(2);
+
+    @Value("${employee.api.rate-limit.initial-backoff:1s}")
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    @Value("${employee.api.rate-limit.max-backoff:120s}")
+    private Duration maxBackoff = Duration.ofSeconds(120);
+
+    // All state below is guarded by lock.
+    private int learnedLimit;
+    private int limitCeiling;
+    private int admittedInWindow;
+    private int acceptedInWindow;
+    private long lastAcceptedAt;
+    private long lastAcceptedBeforeLimit;
+    private boolean limited;
+    private boolean heldBack;
+    private boolean rejectedInWindow;
+    private long blockedUntil;
+    private long probeBackoff;
+    private long windowLowerBound;
+    private long windowUpperBound;
+
+    @Autowired
+    public AdaptiveRateLimiter(MeterRegistry meterRegistry) {
+        this(meterRegistry, System::nanoTime, LockSupport::parkNanos);
+    }
+
+    AdaptiveRateLimiter(MeterRegistry meterRegistry, LongSupplier nanoClock, Sleeper sleeper) {
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        this.permitted = outcomeCounter(meterRegistry, "permitted");
+        this.delayed = outcomeCounter(meterRegistry, "delayed");
+        this.rejected = outcomeCounter(meterRegistry, "rejected");
+        Gauge.builder("employee.api.client.rate.limiter.estimated.limit", this, limiter -> limiter.learnedLimit)
+                .description("Requests per window the upstream is believed to admit, 0 while unknown")
+                .register(meterRegistry);
+        Gauge.builder("employee.api.client.rate.limiter.estimated.window", this, limiter -> limiter
+                        .estimatedWindow()
+                        / 1e9)
+                .baseUnit("seconds")
+                .description("Estimated upstream rate-limit window, 0 while unknown")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * How long a call may be held back, in total, waiting for the upstream to admit it.
+     */
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * Waits for a permit for at most {@code allowedWait}, or throws {@link UpstreamRateLimitedException} right away
+     * if the upstream is not expected to admit the call within that time.
+     */
+    public void acquire(Duration allowedWait) {
+        long deadline = nanoClock.getAsLong() + allowedWait.toNanos();
+        boolean waited = false;
+        while (true) {
+            Duration wait = reserve(Duration.ofNanos(Math.max(0, deadline - nanoClock.getAsLong())), waited);
+            if (wait.isZero()) {
+                return;
+            }
+            waited = true;
+            sleeper.sleep(wait.toNanos());
+        }
+    }
+
+    /**
+     * Non-blocking form of {@link #acquire(Duration)}: takes a permit and returns zero, or returns how long to wait
+     * before asking again, or throws {@link UpstreamRateLimitedException} if that would exceed {@code allowedWait}.
+     * {@code afterWait} marks a caller coming back after waiting, for the metrics only.
+     */
+    public Duration reserve(Duration allowedWait, boolean afterWait) {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+        long now = nanoClock.getAsLong();
+        long wait;
+        lock.lock();
+        try {
+            wait = waitNanos(now);
+            if (wait <= 0) {
+                admittedInWindow++;
+                (afterWait ? delayed : permitted).increment();
+                return Duration.ZERO;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (wait > allowedWait.toNanos()) {
+            rejected.increment();
+            throw new UpstreamRateLimitedException(Duration.ofNanos(wait));
+        }
+        return Duration.ofNanos(wait);
+    }
+
+    /**
+     * Records a call the upstream accepted, i.e. anything other than a 429.
+     */
+    public void onAccepted() {
+        if (!enabled) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            if (limited) {
+                // First success since the limit kicked in: the window is at most this long.
+                long observed = now - lastAcceptedBeforeLimit;
+                windowUpperBound = windowUpperBound == 0 ? observed : Math.min(windowUpperBound, observed);
+                limited = false;
+                heldBack = false;
+                admittedInWindow = 1;
+                acceptedInWindow = 0;
+                log.debug(
+                        "Upstream admitted calls again; window estimate now {}ms",
+                        TimeUnit.NANOSECONDS.toMillis(estimatedWindow()));
+            }
+            acceptedInWindow++;
+            lastAcceptedAt = now;
+            probeBackoff = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a 429 and returns how long the upstream is now expected to keep rejecting calls.
+     */
+    public Duration onRateLimited(Duration retryAfter) {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+        long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            if (!limited) {
+                if (acceptedInWindow > 0 && !heldBack) {
+                    learnedLimit = acceptedInWindow;
+                } else if (acceptedInWindow > 0 && acceptedInWindow < learnedLimit) {
+                    // A probe for a larger budget overshot; settle just below it.
+                    limitCeiling = learnedLimit;
+                    learnedLimit = Math.max(1, learnedLimit - 1);
+                }
+                lastAcceptedBeforeLimit = lastAcceptedAt != 0 ? lastAcceptedAt : now;
+                limited = true;
+            }
+            // Still limited at this point: the window is longer than this.
+            windowLowerBound = Math.max(windowLowerBound, now - lastAcceptedBeforeLimit);
+            if (windowUpperBound != 0 && windowUpperBound <= windowLowerBound) {
+                windowUpperBound = 0;
+            }
+            acceptedInWindow = 0;
+            rejectedInWindow = true;
+
+            long until;
+            if (retryAfter != null && !retryAfter.isZero() && !retryAfter.isNegative()) {
+                until = now + retryAfter.toNanos();
+            } else {
+                long estimate = estimatedWindow();
+                until = estimate > 0 ? lastAcceptedBeforeLimit + estimate : 0;
+                if (until <= now) {
+                    probeBackoff = probeBackoff == 0
+                            ? Math.max(MIN_BACKOFF_NANOS, initialBackoff.toNanos())
+                            : Math.min(probeBackoff * 2, maxBackoff.toNanos());
+                    until = now + probeBackoff;
+                }
+            }
+            blockedUntil = Math.max(blockedUntil, until);
+            log.debug(
+                    "Upstream rate limited after {} accepted calls; holding calls for {}ms",
+                    learnedLimit,
+                    TimeUnit.NANOSECONDS.toMillis(blockedUntil - now));
+            return Duration.ofNanos(blockedUntil - now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long waitNanos(long now) {
+        if (blockedUntil > now) {
+            return blockedUntil - now;
+        }
+        if (blockedUntil != 0) {
+            blockedUntil = 0;
+            admittedInWindow = 0;
+            acceptedInWindow = 0;
+            rejectedInWindow = false;
+        }
+        long window = estimatedWindow();
+        if (!limited && learnedLimit > 0 && window > 0 && admittedInWindow >= learnedLimit) {
+            // The window's budget is spent; hold calls back rather than spend them on a certain 429. A window
+            // that started and ended with a hold and saw no 429 may have had room to spare, so probe one higher.
+            if (heldBack && !rejectedInWindow && (limitCeiling == 0 || learnedLimit + 1 < limitCeiling)) {
+                learnedLimit++;
+            }
+            blockedUntil = now + window;
+            lastAcceptedBeforeLimit = now;
+            heldBack = true;
+            return window;
+        }
+        return 0;
+    }
+
+    private long estimatedWindow() {
+        if (windowUpperBound == 0) {
+            return 0;
+        }
+        return windowLowerBound == 0 ? windowUpperBound : (windowLowerBound + windowUpperBound) / 2;
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("employee.api.client.rate.limiter.calls")
+                .tag("outcome", outcome)
+                .description("Outbound calls by rate limiter decision")
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos);
+    }
+}
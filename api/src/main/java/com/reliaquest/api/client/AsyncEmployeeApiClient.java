@@ -0,0 +1,409 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.HttpClientProperties;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.DeleteEmployeeRequest;
+import com.reliaquest.api.model.DeleteEmployeeResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.model.SalaryResponse;
+import com.reliaquest.api.model.TopEarner;
+import com.reliaquest.api.model.TopEarnersResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeApiClient}, active when {@code employee.api.client.mode=async}.
+ *
+ * <p>Calls go out through the JDK {@link HttpClient}'s async API, and retry backoff, rate-limit waits and replays after
+ * a 429 are scheduled on a single timer thread rather than slept, so no thread is held while a call is pending. Errors
+ * are translated exactly as in the blocking client.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "employee.api.client", name = "mode", havingValue = "async")
+public class AsyncEmployeeApiClient {
+
+    private static final String ALL_EMPLOYEES = "all";
+    private static final Duration MIN_TIMEOUT = Duration.ofMillis(1);
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper;
+    private final RetryRegistry retryRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ConcurrentHashMap<String, LatencyEstimator> latencies = new ConcurrentHashMap<>();
+    private final AdaptiveRateLimiter rateLimiter;
+    private final OperationTimer timer;
+    private final ScheduledExecutorService scheduler;
+    private final SingleFlight<String, List<Employee>> rosterFlights;
+    private final SingleFlight<String, EmployeeResponse> employeeFlights;
+    private final ConditionalRoster roster;
+
+    @Value("${employee.api.base-url}")
+    private String baseUrl;
+
+    @Value("${employee.api.client.aggregates:true}")
+    private volatile boolean aggregates = true;
+
+    public AsyncEmployeeApiClient(
+            HttpClientProperties properties,
+            ObjectMapper objectMapper,
+            RetryRegistry retryRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            AdaptiveRateLimiter rateLimiter,
+            MeterRegistry meterRegistry) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(
+                        properties.getVersion() == HttpClientProperties.Version.HTTP_2
+                                ? HttpClient.Version.HTTP_2
+                                : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        this.requestTimeout = properties.getReadTimeout();
+        this.objectMapper = objectMapper;
+        this.retryRegistry = retryRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.rateLimiter = rateLimiter;
+        this.timer = new OperationTimer(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-api-async-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.rosterFlights = new SingleFlight<>("getAllEmployees", meterRegistry);
+        this.employeeFlights = new SingleFlight<>("getEmployeeById", meterRegistry);
+        this.roster = new ConditionalRoster(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Reads the roster for a request when the roster cache is off, revalidating the last one with
+     * {@code If-None-Match} like the blocking client. The caller's {@link Deadline} is captured here and bounds the
+     * call. Not retried, like {@link EmployeeApiClient#getAllEmployees()}.
+     */
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("getAllEmployees");
+        Deadline deadline = Deadline.current();
+        Supplier<CompletionStage<List<Employee>>> fetch = () -> {
+            UpstreamRoster cached = roster.current();
+            HttpRequest.Builder get = request(URI.create(baseUrl), deadline);
+            if (cached != null) {
+                get.header(HttpHeaders.IF_NONE_MATCH, cached.etag());
+            }
+            return send(get.GET().build(), deadline).thenApply(response -> {
+                if (response.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                    return roster.notModified(cached).employees();
+                }
+                EmployeeResponse body = read(response, EmployeeResponse.class);
+                return roster.modified(
+                        response.headers().firstValue(HttpHeaders.ETAG).orElse(null),
+                        body != null ? body.getData() : List.of())
+                        .employees();
+            });
+        };
+        return rosterFlights.executeAsync(ALL_EMPLOYEES, () -> {
+            Timer.Sample sample = timer.start();
+            return Bulkhead.decorateCompletionStage(bulkhead, fetch)
+                    .get()
+                    .toCompletableFuture()
+                    .whenComplete((employees, failure) ->
+                            timer.stop(sample, "getAllEmployees", failure != null ? unwrap(failure) : null));
+        });
+    }
+
+    /**
+     * Async form of {@link EmployeeApiClient#getHighestSalary()}, under the same
+     * {@code employee.api.client.aggregates} switch.
+     */
+    public CompletableFuture<Optional<Integer>> getHighestSalary() {
+        return aggregate("getHighestSalary", "/stats/highest-salary", SalaryResponse.class)
+                .thenApply(body -> body.map(salary -> salary.getData() != null ? salary.getData() : 0));
+    }
+
+    /**
+     * Async form of {@link EmployeeApiClient#getTopEarnerNames(int)}.
+     */
+    public CompletableFuture<Optional<List<String>>> getTopEarnerNames(int limit) {
+        return aggregate("getTopEarners", "/stats/top-earners?limit=" + limit, TopEarnersResponse.class)
+                .thenApply(body -> body.map(top -> top.getData() == null
+                        ? List.of()
+                        : top.getData().stream().map(TopEarner::getName).toList()));
+    }
+
+    private <T> CompletableFuture<Optional<T>> aggregate(String operation, String path, Class<T> type) {
+        if (!aggregates) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return executeWithResilience(operation, "employeeApiRetry", "employeeApiCircuitBreaker", deadline -> {
+            HttpRequest get = request(URI.create(baseUrl + path), deadline).GET().build();
+            return send(get, deadline)
+                    .handle((response, failure) -> aggregateOrEmpty(operation, type, response, failure));
+        });
+    }
+
+    private <T> Optional<T> aggregateOrEmpty(
+            String operation, Class<T> type, HttpResponse<byte[]> response, Throwable failure) {
+        if (failure == null) {
+            T body = read(response, type);
+            if (body == null) {
+                throw new EmployeeApiException("Upstream sent an empty " + operation + " response");
+            }
+            return Optional.of(body);
+        }
+        if (unwrap(failure) instanceof HttpClientErrorException.NotFound) {
+            if (aggregates) {
+                aggregates = false;
+                log.warn("Upstream has no aggregate endpoints; salary statistics will read the whole roster");
+            }
+            return Optional.empty();
+        }
+        throw failure instanceof CompletionException completion ? completion : new CompletionException(failure);
+    }
+
+    public CompletableFuture<EmployeeResponse> getEmployeeById(String id) {
+        return employeeFlights.executeAsync(
+                id,
+                () -> executeWithResilience(
+                        "getEmployeeById", "employeeApiRetry", "employeeApiCircuitBreaker", deadline -> {
+                            URI uri = URI.create(baseUrl + "/" + id);
+                            return send(request(uri, deadline).GET().build(), deadline)
+                                    .thenApply(response -> read(response, EmployeeResponse.class));
+                        }));
+    }
+
+    public CompletableFuture<Employee> createEmployee(Employee request) {
+        return executeWithResilience("createEmployee", "employeeApiRetry", "employeeApiCircuitBreaker", deadline -> {
+            HttpRequest post = request(URI.create(baseUrl), deadline)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(write(EmployeeApiClient.createBody(request))))
+                    .build();
+            return send(post, deadline)
+                    .thenApply(response -> EmployeeApiClient.firstOf(read(response, EmployeeResponse.class)));
+        });
+    }
+
+    /**
+     * Not retried, for the same reason as {@link EmployeeApiClient#deleteEmployee(String, String)}.
+     */
+    public CompletableFuture<Boolean> deleteEmployee(String id, String name) {
+        return executeWithResilience(
+                "deleteEmployeeById", EmployeeApiClient.NO_RETRY, "employeeApiCircuitBreaker", deadline -> {
+                    byte[] body = write(new DeleteEmployeeRequest(name, id));
+                    HttpRequest delete = request(URI.create(baseUrl), deadline)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .method("DELETE", HttpRequest.BodyPublishers.ofByteArray(body))
+                            .build();
+                    return send(delete, deadline).thenApply(response -> {
+                        DeleteEmployeeResponse deleted = read(response, DeleteEmployeeResponse.class);
+                        return deleted != null && Boolean.TRUE.equals(deleted.getData());
+                    });
+                });
+    }
+
+    /**
+     * Async form of the blocking client's resilience chain. The caller's {@link Deadline} is captured here, on the
+     * request thread, and handed to every attempt.
+     */
+    private <T> CompletableFuture<T> executeWithResilience(
+            String operation,
+            String retryName,
+            String circuitBreakerName,
+            Function<Deadline, CompletionStage<T>> call) {
+        Retry retry = EmployeeApiClient.retry(retryRegistry, retryName);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(circuitBreakerName);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(operation);
+        Timer.Sample sample = timer.start();
+        AttemptBudget budget =
+                new AttemptBudget(operation, Deadline.current(), retry.getRetryConfig(), latency(operation));
+
+        Supplier<CompletionStage<T>> attempt = Bulkhead.decorateCompletionStage(bulkhead, () -> {
+            CompletableFuture<T> outcome = new CompletableFuture<>();
+            try {
+                budget.startAttempt();
+                call.apply(budget.deadline()).whenComplete((value, failure) -> {
+                    if (failure == null) {
+                        budget.succeeded();
+                        outcome.complete(value);
+                    } else {
+                        outcome.completeExceptionally(budget.failed(unwrap(failure)));
+                    }
+                });
+            } catch (RuntimeException ex) {
+                outcome.completeExceptionally(ex);
+            }
+            return outcome;
+        });
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletionStage<T> resilient;
+        try {
+            resilient = circuitBreaker.executeCompletionStage(() -> Retry.decorateCompletionStage(
+                            retry, scheduler, attempt)
+                    .get());
+        } catch (RuntimeException ex) {
+            resilient = CompletableFuture.failedFuture(ex);
+        }
+        resilient.whenComplete((value, failure) -> {
+            Throwable cause = failure != null ? unwrap(failure) : null;
+            timer.stop(sample, operation, cause);
+            if (cause == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(translate(retryName, cause));
+            }
+        });
+        return result;
+    }
+
+    private static RuntimeException translate(String retryName, Throwable failure) {
+        if (failure instanceof EmployeeApiException ex) {
+            return ex;
+        }
+        if (failure instanceof BulkheadFullException ex) {
+            return ex;
+        }
+        if (failure instanceof HttpStatusCodeException ex) {
+            log.error(
+                    "HTTP error while calling {}: status={}, body={}",
+                    retryName,
+                    ex.getStatusCode(),
+                    ex.getResponseBodyAsString());
+            return new EmployeeApiException("Remote API error: " + ex.getStatusCode(), ex);
+        }
+        log.error("Error while calling {}: {}", retryName, failure.toString());
+        return new EmployeeApiException("Remote API call failed", failure);
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> send(HttpRequest request, Deadline deadline) {
+        return send(request, System.nanoTime() + deadline.cap(rateLimiter.getMaxWait()).toNanos(), false);
+    }
+
+    /**
+     * Sends {@code request} once the rate limiter admits it, replaying it after a 429 for as long as the limiter
+     * expects the upstream to reopen before {@code deadline}, and never when the limiter is off.
+     */
+    private CompletableFuture<HttpResponse<byte[]>> send(HttpRequest request, long deadline, boolean afterWait) {
+        Duration wait;
+        try {
+            wait = rateLimiter.reserve(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())), afterWait);
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        if (!wait.isZero()) {
+            Executor delayed = CompletableFuture.delayedExecutor(wait.toNanos(), TimeUnit.NANOSECONDS, scheduler);
+            return CompletableFuture.runAsync(() -> {}, delayed).thenCompose(ignored -> send(request, deadline, true));
+        }
+
+        return httpClient
+                .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenCompose(response -> {
+                    if (response.statusCode() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                        RateLimitInterceptor.onRateLimited(rateLimiter, headers(response), deadline);
+                        return send(request, deadline, true);
+                    }
+                    rateLimiter.onAccepted();
+                    if (response.statusCode() >= 400) {
+                        return CompletableFuture.failedFuture(statusError(response));
+                    }
+                    return CompletableFuture.completedFuture(response);
+                });
+    }
+
+    private HttpRequest.Builder request(URI uri, Deadline deadline) {
+        Duration timeout = deadline.cap(requestTimeout);
+        return HttpRequest.newBuilder(uri)
+                .timeout(timeout.isZero() ? MIN_TIMEOUT : timeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private <T> T read(HttpResponse<byte[]> response, Class<T> type) {
+        byte[] body = response.body();
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException ex) {
+            throw new EmployeeApiException("Could not read upstream response", ex);
+        }
+    }
+
+    private byte[] write(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            throw new EmployeeApiException("Could not write upstream request", ex);
+        }
+    }
+
+    private static HttpStatusCodeException statusError(HttpResponse<byte[]> response) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        HttpHeaders headers = headers(response);
+        if (status.is4xxClientError()) {
+            return HttpClientErrorException.create(status, "", headers, response.body(), StandardCharsets.UTF_8);
+        }
+        return HttpServerErrorException.create(status, "", headers, response.body(), StandardCharsets.UTF_8);
+    }
+
+    private static HttpHeaders headers(HttpResponse<?> response) {
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        return headers;
+    }
+
+    private LatencyEstimator latency(String operation) {
+        return latencies.computeIfAbsent(operation, ignored -> new LatencyEstimator());
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
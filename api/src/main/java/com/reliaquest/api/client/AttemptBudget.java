@@ -0,0 +1,69 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import io.github.resilience4j.core.functions.Either;
+import io.github.resilience4j.retry.RetryConfig;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the attempts of one logical upstream call against its {@link Deadline}.
+ *
+ * <p>Each attempt checks the deadline before it starts. When an attempt fails with something the retry would act on,
+ * the next backoff is taken from the retry's own interval function and, together with the expected attempt latency,
+ * compared with the time left; if it does not fit, the failure is replaced with a {@link DeadlineExceededException},
+ * which the retry ignores, instead of sleeping towards a deadline the caller has already given up on.
+ */
+final class AttemptBudget {
+
+    private final String operation;
+    private final Deadline deadline;
+    private final RetryConfig retryConfig;
+    private final LatencyEstimator latency;
+
+    private int attempts;
+    private long attemptStartedAt;
+
+    AttemptBudget(String operation, Deadline deadline, RetryConfig retryConfig, LatencyEstimator latency) {
+        this.operation = operation;
+        this.deadline = deadline;
+        this.retryConfig = retryConfig;
+        this.latency = latency;
+    }
+
+    Deadline deadline() {
+        return deadline;
+    }
+
+    void startAttempt() {
+        attempts++;
+        if (deadline.isExpired()) {
+            throw new DeadlineExceededException(
+                    "Deadline expired before attempt " + attempts + " of " + operation);
+        }
+        attemptStartedAt = System.nanoTime();
+    }
+
+    void succeeded() {
+        latency.record(System.nanoTime() - attemptStartedAt);
+    }
+
+    /**
+     * Returns the failure to report for the current attempt: {@code failure} itself, or a
+     * {@link DeadlineExceededException} wrapping it when a retry would not fit in the remaining budget.
+     */
+    Throwable failed(Throwable failure) {
+        latency.record(System.nanoTime() - attemptStartedAt);
+        if (!deadline.isBounded()
+                || attempts >= retryConfig.getMaxAttempts()
+                || !retryConfig.getExceptionPredicate().test(failure)) {
+            return failure;
+        }
+        long backoff = TimeUnit.MILLISECONDS.toNanos(
+                retryConfig.getIntervalBiFunction().apply(attempts, Either.left(failure)));
+        if (deadline.remainingNanos() < backoff + latency.estimateNanos()) {
+            return new DeadlineExceededException(
+                    "Not enough time left to retry " + operation + " after attempt " + attempts, failure);
+        }
+        return failure;
+    }
+}
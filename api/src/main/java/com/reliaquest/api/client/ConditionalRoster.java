@@ -0,0 +1,60 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Last roster the upstream sent together with its ETag, so the next fetch can be made conditional.
+ *
+ * <p>A fetch takes {@link #current()}, sends its ETag as {@code If-None-Match}, and then either hands a 304 to
+ * {@link #notModified} to get the roster parsed last time back, or hands a fresh body to {@link #modified}. The list
+ * returned on a 304 is the same instance as before, which lets callers skip rebuilding anything derived from it.
+ */
+final class ConditionalRoster {
+
+    private final AtomicReference<UpstreamRoster> last = new AtomicReference<>();
+    private final Counter modified;
+    private final Counter notModified;
+
+    ConditionalRoster(MeterRegistry meterRegistry) {
+        this.modified = fetchCounter(meterRegistry, "modified");
+        this.notModified = fetchCounter(meterRegistry, "not_modified");
+    }
+
+    /**
+     * The roster to revalidate, or {@code null} when there is none and the fetch has to be unconditional.
+     */
+    UpstreamRoster current() {
+        return last.get();
+    }
+
+    UpstreamRoster notModified(UpstreamRoster revalidated) {
+        if (revalidated == null) {
+            throw new EmployeeApiException("Upstream answered 304 to an unconditional roster request");
+        }
+        notModified.increment();
+        return revalidated;
+    }
+
+    /**
+     * Remembers a freshly fetched roster. Without an ETag there is nothing to revalidate against, so the next fetch is
+     * unconditional.
+     */
+    UpstreamRoster modified(String etag, List<Employee> employees) {
+        modified.increment();
+        UpstreamRoster roster = new UpstreamRoster(etag, employees != null ? List.copyOf(employees) : List.of());
+        last.set(etag != null ? roster : null);
+        return roster;
+    }
+
+    private static Counter fetchCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.api.client.roster.fetches")
+                .tag("result", result)
+                .description("Roster fetches by whether the upstream sent a new body or confirmed the cached one")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+
+/**
+ * Point in time by which a request's upstream work has to be done.
+ *
+ * <p>The deadline for the current request is bound to the handling thread by
+ * {@link com.reliaquest.api.config.DeadlineFilter}; the blocking client reads it on that thread, and the async client
+ * captures it before leaving it. Work outside a request, such as background roster refreshes, runs under
+ * {@link #none()}.
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(0, false);
+    private static final Duration UNBOUNDED = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999);
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+    private final boolean bounded;
+
+    private Deadline(long expiresAtNanos, boolean bounded) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.bounded = bounded;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos(), true);
+    }
+
+    public static Deadline none() {
+        return NONE;
+    }
+
+    /**
+     * The deadline bound to this thread, or {@link #none()}.
+     */
+    public static Deadline current() {
+        Deadline deadline = CURRENT.get();
+        return deadline != null ? deadline : NONE;
+    }
+
+    /**
+     * Binds {@code deadline} to this thread until the returned scope is closed.
+     */
+    public static Scope bind(Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    public long remainingNanos() {
+        return bounded ? expiresAtNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    public Duration remaining() {
+        return bounded ? Duration.ofNanos(Math.max(0, remainingNanos())) : UNBOUNDED;
+    }
+
+    public boolean isExpired() {
+        return bounded && remainingNanos() <= 0;
+    }
+
+    /**
+     * {@code timeout}, shortened to what is left of this deadline.
+     */
+    public Duration cap(Duration timeout) {
+        if (!bounded) {
+            return timeout;
+        }
+        Duration remaining = remaining();
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -1,86 +1,528 @@
 package com.reliaquest.api.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.RosterSnapshotExpiredException;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.DeleteEmployeeRequest;
+import com.reliaquest.api.model.DeleteEmployeeResponse;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBulkCreateRequest;
+import com.reliaquest.api.model.EmployeeLookupRequest;
 import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.model.RosterChanges;
+import com.reliaquest.api.model.RosterChangesResponse;
+import com.reliaquest.api.model.RosterPage;
+import com.reliaquest.api.model.RosterPageResponse;
+import com.reliaquest.api.model.SalaryResponse;
+import com.reliaquest.api.model.TopEarner;
+import com.reliaquest.api.model.TopEarnersResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class EmployeeApiClient {
 
+    static final String NO_RETRY = "employeeApiNoRetry";
+    private static final String ALL_EMPLOYEES = "all";
+
     private final RestTemplate restTemplate;
+    private final RosterStreamReader rosterReader;
     private final RetryRegistry retryRegistry;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ConcurrentHashMap<String, LatencyEstimator> latencies = new ConcurrentHashMap<>();
+    private final OperationTimer timer;
+    private final SingleFlight<String, List<Employee>> rosterFlights;
+    private final SingleFlight<String, EmployeeResponse> employeeFlights;
+    private final ConditionalRoster roster;
+    private final FanOutExecutor fanOut;
 
     @Value("${employee.api.base-url}")
     private String baseUrl;
 
-    private <T> T executeWithResilience(String retryName, String circuitBreakerName, Supplier<T> supplier) {
-        Retry retry = retryRegistry.retry(retryName);
+    @Value("${employee.api.client.page-size:0}")
+    private int pageSize;
+
+    @Value("${employee.api.client.page-concurrency:4}")
+    private int pageConcurrency = 4;
+
+    // Cleared the first time the upstream answers an aggregate with 404, so later calls skip straight to the roster.
+    @Value("${employee.api.client.aggregates:true}")
+    private volatile boolean aggregates = true;
+
+    // Likewise for the multi-id lookup and the bulk create; an upstream without them answers 404 or 405.
+    @Value("${employee.api.client.lookup:true}")
+    private volatile boolean lookup = true;
+
+    @Value("${employee.api.client.bulk-create:true}")
+    private volatile boolean bulkCreate = true;
+
+    public EmployeeApiClient(
+            RestTemplate restTemplate,
+            ObjectMapper objectMapper,
+            RetryRegistry retryRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry,
+            FanOutExecutor fanOut) {
+        this.restTemplate = restTemplate;
+        this.rosterReader = new RosterStreamReader(objectMapper);
+        this.retryRegistry = retryRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.timer = new OperationTimer(meterRegistry);
+        this.rosterFlights = new SingleFlight<>("getAllEmployees", meterRegistry);
+        this.employeeFlights = new SingleFlight<>("getEmployeeById", meterRegistry);
+        this.roster = new ConditionalRoster(meterRegistry);
+        this.fanOut = fanOut;
+    }
+
+    @PostConstruct
+    void checkPageConcurrency() {
+        if (pageConcurrency < 1) {
+            throw new IllegalStateException(
+                    "employee.api.client.page-concurrency must be at least 1, was " + pageConcurrency);
+        }
+    }
+
+    /**
+     * Runs {@code supplier} under the retry and circuit breaker, with every attempt held to the current request's
+     * {@link Deadline} and to the operation's bulkhead.
+     */
+    private <T> T executeWithResilience(
+            String operation, String retryName, String circuitBreakerName, Supplier<T> supplier) {
+        Retry retry = retry(retryRegistry, retryName);
         CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(circuitBreakerName);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(operation);
+        AttemptBudget budget =
+                new AttemptBudget(operation, Deadline.current(), retry.getRetryConfig(), latency(operation));
 
+        Supplier<T> attempt = Bulkhead.decorateSupplier(bulkhead, () -> {
+            budget.startAttempt();
+            try {
+                T result = supplier.get();
+                budget.succeeded();
+                return result;
+            } catch (RuntimeException ex) {
+                throw (RuntimeException) budget.failed(ex);
+            }
+        });
         Supplier<T> resilientSupplier = () -> circuitBreaker.executeSupplier(
-                () -> Retry.decorateSupplier(retry, supplier).get());
+                () -> Retry.decorateSupplier(retry, attempt).get());
 
+        Timer.Sample sample = timer.start();
         try {
-            return resilientSupplier.get();
-        } catch (HttpStatusCodeException ex) {
+            T result = resilientSupplier.get();
+            timer.stop(sample, operation, null);
+            return result;
+        } catch (RuntimeException ex) {
+            timer.stop(sample, operation, ex);
+            throw translate(retryName, ex);
+        }
+    }
+
+    /**
+     * The retry named {@code retryName}. {@link #NO_RETRY} makes a single attempt, for calls that must not be sent
+     * twice because a lost response leaves it unknown whether the first one took effect; it otherwise shares the
+     * registry's defaults, so it shows up in the retry metrics like any other.
+     */
+    static Retry retry(RetryRegistry retryRegistry, String retryName) {
+        if (NO_RETRY.equals(retryName)) {
+            return retryRegistry.retry(
+                    retryName, RetryConfig.from(retryRegistry.getDefaultConfig()).maxAttempts(1).build());
+        }
+        return retryRegistry.retry(retryName);
+    }
+
+    private static RuntimeException translate(String retryName, RuntimeException failure) {
+        if (failure instanceof EmployeeApiException || failure instanceof BulkheadFullException) {
+            return failure;
+        }
+        if (failure instanceof HttpStatusCodeException ex) {
             log.error(
                     "HTTP error while calling {}: status={}, body={}",
                     retryName,
                     ex.getStatusCode(),
                     ex.getResponseBodyAsString());
-            throw new EmployeeApiException("Remote API error: " + ex.getStatusCode(), ex);
-        } catch (Exception ex) {
-            log.error("Error while calling {}: {}", retryName, ex.toString());
-            throw new EmployeeApiException("Remote API call failed", ex);
+            return new EmployeeApiException("Remote API error: " + ex.getStatusCode(), ex);
         }
+        log.error("Error while calling {}: {}", retryName, failure.toString());
+        return new EmployeeApiException("Remote API call failed", failure);
     }
 
+    /**
+     * Fetches the roster, revalidating the last one with {@code If-None-Match}. When the upstream answers 304 the list
+     * parsed last time is returned as is, so an unchanged roster costs neither the transfer nor the parse.
+     *
+     * <p>With {@code employee.api.client.page-size} set, the roster is read page by page instead; see
+     * {@link #fetchPaged()}.
+     */
     public List<Employee> getAllEmployees() {
-        EmployeeResponse response = restTemplate.getForObject(baseUrl, EmployeeResponse.class);
-        return response != null ? response.getData() : List.of();
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("getAllEmployees");
+        return rosterFlights.execute(ALL_EMPLOYEES, () -> {
+            Timer.Sample sample = timer.start();
+            try {
+                List<Employee> employees =
+                        bulkhead.executeSupplier(() -> pageSize > 0 ? fetchPaged() : fetchWhole());
+                timer.stop(sample, "getAllEmployees", null);
+                return employees;
+            } catch (RuntimeException ex) {
+                timer.stop(sample, "getAllEmployees", ex);
+                throw ex;
+            }
+        });
+    }
+
+    private List<Employee> fetchWhole() {
+        UpstreamRoster cached = roster.current();
+        HttpHeaders headers = new HttpHeaders();
+        if (cached != null) {
+            headers.setIfNoneMatch(cached.etag());
+        }
+        ResponseEntity<EmployeeResponse> response = restTemplate.exchange(
+                URI.create(baseUrl), HttpMethod.GET, new HttpEntity<>(headers), EmployeeResponse.class);
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return roster.notModified(cached).employees();
+        }
+        EmployeeResponse body = response.getBody();
+        return roster.modified(response.getHeaders().getETag(), body != null ? body.getData() : List.of())
+                .employees();
+    }
+
+    /**
+     * Reads the roster a page at a time. The first page names the upstream snapshot and its size; when that is the
+     * snapshot fetched last, the list from then is reused as on a 304. Otherwise the remaining pages are requested
+     * from the same snapshot, up to {@code employee.api.client.page-concurrency} at once, and joined in order. Every
+     * page is retried on its own, so a failed page costs one more request for that page rather than the whole fetch.
+     * If the upstream lets the snapshot go before all its pages are read, the fetch starts over once.
+     */
+    private List<Employee> fetchPaged() {
+        try {
+            return fetchPages();
+        } catch (RosterSnapshotExpiredException ex) {
+            log.info("Roster snapshot expired during a paged fetch, starting over: {}", ex.getMessage());
+            return fetchPages();
+        }
+    }
+
+    private List<Employee> fetchPages() {
+        UpstreamRoster cached = roster.current();
+        RosterPage first = getRosterPage(null, pageSize);
+        if (cached != null && first.getSnapshot().equals(cached.cursor())) {
+            return roster.notModified(cached).employees();
+        }
+        List<Employee> employees = new ArrayList<>(first.getTotal());
+        employees.addAll(first.getEmployees());
+        if (first.getNext() != null) {
+            // The upstream may cap the page size, so later pages follow the size it actually used.
+            int stride = first.getEmployees().size();
+            for (RosterPage page : getRemainingPages(first.getSnapshot(), stride, first.getTotal())) {
+                employees.addAll(page.getEmployees());
+            }
+        }
+        return roster.modified("\"" + first.getSnapshot() + "\"", employees).employees();
+    }
+
+    /**
+     * Pages {@code stride} to {@code total} of {@code snapshot}, in order, with at most
+     * {@code employee.api.client.page-concurrency} of them in flight on the shared {@link FanOutExecutor}. The
+     * request's deadline goes with every page, and pages still outstanding when one fails are cancelled.
+     */
+    private List<RosterPage> getRemainingPages(String snapshot, int stride, int total) {
+        List<Integer> offsets = new ArrayList<>();
+        for (int offset = stride; offset < total; offset += stride) {
+            offsets.add(offset);
+        }
+        Deadline deadline = Deadline.current();
+        Semaphore permits = new Semaphore(Math.min(pageConcurrency, offsets.size()));
+        List<Future<RosterPage>> pending = new ArrayList<>(offsets.size());
+        try {
+            for (int offset : offsets) {
+                pending.add(fanOut.submit(
+                        permits, deadline, () -> getRosterPage(RosterPage.cursor(snapshot, offset), stride)));
+            }
+            List<RosterPage> pages = new ArrayList<>(pending.size());
+            for (Future<RosterPage> page : pending) {
+                pages.add(page.get());
+            }
+            return pages;
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause
+                    ? cause
+                    : new EmployeeApiException("Roster page fetch failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new EmployeeApiException("Interrupted while fetching roster pages", ex);
+        } finally {
+            pending.forEach(page -> page.cancel(true));
+        }
+    }
+
+    private RosterPage getRosterPage(String cursor, int limit) {
+        return executeWithResilience("getRosterPage", "employeeApiRetry", "employeeApiCircuitBreaker", () -> {
+            String query = "/page?limit=" + limit
+                    + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "");
+            try {
+                ResponseEntity<RosterPageResponse> response = restTemplate.exchange(
+                        URI.create(baseUrl + query), HttpMethod.GET, HttpEntity.EMPTY, RosterPageResponse.class);
+                RosterPageResponse body = response.getBody();
+                if (body == null || body.getData() == null) {
+                    throw new EmployeeApiException("Upstream sent an empty roster page");
+                }
+                return body.getData();
+            } catch (HttpClientErrorException.Gone ex) {
+                throw new RosterSnapshotExpiredException("Roster page " + cursor + " is no longer available", ex);
+            }
+        });
+    }
+
+    /**
+     * Position in the upstream's change feed that {@code employees} reflects, when it is the roster this client fetched
+     * last and the upstream tagged it; otherwise {@code null}.
+     */
+    public String cursorOf(List<Employee> employees) {
+        UpstreamRoster last = roster.current();
+        return last != null && last.employees() == employees ? last.cursor() : null;
+    }
+
+    /**
+     * Creates and deletes the upstream has seen since {@code cursor}, for catching a roster up without reloading it.
+     */
+    public RosterChanges getRosterChanges(String cursor) {
+        return executeWithResilience("getRosterChanges", "employeeApiRetry", "employeeApiCircuitBreaker", () -> {
+            URI uri = URI.create(baseUrl + "/changes?since=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+            ResponseEntity<RosterChangesResponse> response =
+                    restTemplate.exchange(uri, HttpMethod.GET, HttpEntity.EMPTY, RosterChangesResponse.class);
+            RosterChangesResponse body = response.getBody();
+            if (body == null || body.getData() == null) {
+                throw new EmployeeApiException("Upstream sent an empty change feed");
+            }
+            return body.getData();
+        });
+    }
+
+    /**
+     * Highest salary as the upstream computes it, or empty when the upstream has no aggregate endpoints and the roster
+     * has to be read instead. {@code 0} when nobody upstream has a salary.
+     */
+    public Optional<Integer> getHighestSalary() {
+        return aggregate("getHighestSalary", "/stats/highest-salary", SalaryResponse.class)
+                .map(body -> body.getData() != null ? body.getData() : 0);
+    }
+
+    /**
+     * Names of the upstream's {@code limit} highest earners, highest first, or empty when the upstream has no aggregate
+     * endpoints.
+     */
+    public Optional<List<String>> getTopEarnerNames(int limit) {
+        return aggregate("getTopEarners", "/stats/top-earners?limit=" + limit, TopEarnersResponse.class)
+                .map(body -> body.getData() == null
+                        ? List.of()
+                        : body.getData().stream().map(TopEarner::getName).toList());
+    }
+
+    private <T> Optional<T> aggregate(String operation, String path, Class<T> type) {
+        if (!aggregates) {
+            return Optional.empty();
+        }
+        return executeWithResilience(operation, "employeeApiRetry", "employeeApiCircuitBreaker", () -> {
+            try {
+                ResponseEntity<T> response =
+                        restTemplate.exchange(URI.create(baseUrl + path), HttpMethod.GET, HttpEntity.EMPTY, type);
+                if (response.getBody() == null) {
+                    throw new EmployeeApiException("Upstream sent an empty " + operation + " response");
+                }
+                return Optional.of(response.getBody());
+            } catch (HttpClientErrorException.NotFound ex) {
+                if (aggregates) {
+                    aggregates = false;
+                    log.warn("Upstream has no aggregate endpoints; salary statistics will read the whole roster");
+                }
+                return Optional.empty();
+            }
+        });
+    }
+
+    /**
+     * Reads the roster straight off the upstream response and passes each employee to {@code consumer} as it is
+     * parsed, for callers that aggregate or filter and have no use for the whole list. Like
+     * {@link #getAllEmployees()}, this is not retried.
+     */
+    public void streamAllEmployees(Consumer<? super Employee> consumer) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("getAllEmployees");
+        Timer.Sample sample = timer.start();
+        try {
+            Long streamed = bulkhead.executeSupplier(() -> restTemplate.execute(
+                    URI.create(baseUrl),
+                    HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                    response -> rosterReader.read(response.getBody(), consumer)));
+            log.debug("Streamed {} employees from upstream", streamed);
+            timer.stop(sample, "streamAllEmployees", null);
+        } catch (RuntimeException ex) {
+            timer.stop(sample, "streamAllEmployees", ex);
+            throw ex;
+        }
     }
 
     public EmployeeResponse getEmployeeById(String id) {
-        return executeWithResilience("employeeApiRetry", "employeeApiCircuitBreaker", () -> {
-            URI uri = URI.create(baseUrl + "/employees/" + id);
-            ResponseEntity<EmployeeResponse> response =
-                    restTemplate.exchange(uri, HttpMethod.GET, HttpEntity.EMPTY, EmployeeResponse.class);
-            return response.getBody();
+        return employeeFlights.execute(
+                id,
+                () -> executeWithResilience(
+                        "getEmployeeById", "employeeApiRetry", "employeeApiCircuitBreaker", () -> {
+                            URI uri = URI.create(baseUrl + "/" + id);
+                            ResponseEntity<EmployeeResponse> response = restTemplate.exchange(
+                                    uri, HttpMethod.GET, HttpEntity.EMPTY, EmployeeResponse.class);
+                            return response.getBody();
+                        }));
+    }
+
+    /**
+     * The employees with {@code ids} that exist upstream, fetched in one request, or empty when the upstream has no
+     * multi-id lookup and each id has to be fetched with {@link #getEmployeeById(String)}.
+     */
+    public Optional<List<Employee>> getEmployeesByIds(List<String> ids) {
+        if (!lookup) {
+            return Optional.empty();
+        }
+        return executeWithResilience("getEmployeesByIds", "employeeApiRetry", "employeeApiCircuitBreaker", () -> {
+            try {
+                ResponseEntity<EmployeeResponse> response = restTemplate.postForEntity(
+                        URI.create(baseUrl + "/lookup"), new EmployeeLookupRequest(ids), EmployeeResponse.class);
+                EmployeeResponse body = response.getBody();
+                return Optional.of(body != null && body.getData() != null ? body.getData() : List.<Employee>of());
+            } catch (HttpClientErrorException.NotFound | HttpClientErrorException.MethodNotAllowed ex) {
+                if (lookup) {
+                    lookup = false;
+                    log.warn("Upstream has no multi-id lookup; batches will fetch each id on its own");
+                }
+                return Optional.empty();
+            }
         });
     }
 
     public Employee createEmployee(Employee request) {
-        return executeWithResilience("employeeApiRetry", "employeeApiCircuitBreaker", () -> {
-            URI uri = URI.create(baseUrl + "/employees");
-            ResponseEntity<Employee> response = restTemplate.postForEntity(uri, request, Employee.class);
-            return response.getBody();
+        return executeWithResilience("createEmployee", "employeeApiRetry", "employeeApiCircuitBreaker", () -> {
+            ResponseEntity<EmployeeResponse> response =
+                    restTemplate.postForEntity(URI.create(baseUrl), createBody(request), EmployeeResponse.class);
+            return firstOf(response.getBody());
         });
     }
 
-    public void deleteEmployeeById(String id) {
-        executeWithResilience("employeeApiRetry", "employeeApiCircuitBreaker", () -> {
-            URI uri = URI.create(baseUrl + "/api/v1/employee/" + id);
-            restTemplate.exchange(uri, HttpMethod.DELETE, HttpEntity.EMPTY, Void.class);
-            return null;
+    /**
+     * Creates {@code employees} upstream in one request and returns them as created, in the same order, or empty when
+     * the upstream has no bulk create and each has to go through {@link #createEmployee(Employee)}.
+     *
+     * <p>The upstream creates all of them or none. The request is never retried, not even after a timeout or a 5xx:
+     * with the response lost the employees may well have been created, and sending them again could create every one
+     * of them twice. Any failure, including a response that does not account for every employee, is thrown for the
+     * caller to report.
+     */
+    public Optional<List<Employee>> createEmployees(List<Employee> employees) {
+        if (!bulkCreate) {
+            return Optional.empty();
+        }
+        EmployeeBulkCreateRequest body = new EmployeeBulkCreateRequest(
+                employees.stream().map(EmployeeApiClient::createBody).toList());
+        Optional<EmployeeResponse> response =
+                executeWithResilience("createEmployees", NO_RETRY, "employeeApiCircuitBreaker", () -> {
+                    try {
+                        EmployeeResponse created = restTemplate
+                                .postForEntity(URI.create(baseUrl + "/bulk"), body, EmployeeResponse.class)
+                                .getBody();
+                        return Optional.of(created != null ? created : new EmployeeResponse());
+                    } catch (HttpClientErrorException.NotFound | HttpClientErrorException.MethodNotAllowed ex) {
+                        if (bulkCreate) {
+                            bulkCreate = false;
+                            log.warn("Upstream has no bulk create; bulk requests will create each employee on its own");
+                        }
+                        return Optional.empty();
+                    }
+                });
+        if (response.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Employee> created = response.get().getData();
+        if (created == null || created.size() != employees.size()) {
+            throw new EmployeeApiException("Upstream did not return every employee of a bulk create");
+        }
+        return Optional.of(created);
+    }
+
+    /**
+     * Deletes the employee with this id in one call, using the upstream's contract of a DELETE on the collection whose
+     * body names the employee. Returns whether the upstream deleted anyone; it deletes nobody when the id is gone or
+     * no longer has this name.
+     *
+     * <p>Not retried: if a delete that went through lost its response, a second one would find nobody and report the
+     * employee as never there. A failed call is thrown instead.
+     */
+    public boolean deleteEmployee(String id, String name) {
+        return executeWithResilience("deleteEmployeeById", NO_RETRY, "employeeApiCircuitBreaker", () -> {
+            HttpEntity<DeleteEmployeeRequest> body = new HttpEntity<>(new DeleteEmployeeRequest(name, id));
+            DeleteEmployeeResponse response = restTemplate
+                    .exchange(URI.create(baseUrl), HttpMethod.DELETE, body, DeleteEmployeeResponse.class)
+                    .getBody();
+            return response != null && Boolean.TRUE.equals(response.getData());
         });
     }
+
+    /**
+     * The upstream's create contract: plain {@code name}, {@code salary}, {@code age} and {@code title} fields rather
+     * than the prefixed ones it returns.
+     */
+    static CreateEmployeeRequest createBody(Employee employee) {
+        return CreateEmployeeRequest.builder()
+                .name(employee.getEmployee_name())
+                .salary(employee.getEmployee_salary())
+                .age(employee.getEmployee_age())
+                .title(employee.getEmployee_title())
+                .email(employee.getEmployee_email())
+                .build();
+    }
+
+    static Employee firstOf(EmployeeResponse response) {
+        return response != null && response.getData() != null && !response.getData().isEmpty()
+                ? response.getData().get(0)
+                : null;
+    }
+
+    private LatencyEstimator latency(String operation) {
+        return latencies.computeIfAbsent(operation, ignored -> new LatencyEstimator());
+    }
 }
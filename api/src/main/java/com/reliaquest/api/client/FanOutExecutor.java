@@ -0,0 +1,109 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.EmployeeApiException;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the upstream calls a single request fans out, such as the chunks of a batch or the pages of a roster, on one
+ * executor shared by every request, so that a burst of requests cannot start a pool each.
+ *
+ * <p>On platform threads it is a fixed pool of {@code employee.api.fan-out.threads} threads with a queue of
+ * {@code employee.api.fan-out.queue-capacity}, and a call beyond that fails with {@link TaskRejectedException}. With
+ * virtual threads active every call gets its own virtual thread. Callers bound their own share with a semaphore, and
+ * the bulkhead still caps upstream calls overall.
+ *
+ * <p>This is a holder rather than an {@code Executor} bean on purpose: Spring Boot only creates its application task
+ * executor, which the roster cache refreshes on, while no other {@code Executor} bean exists.
+ */
+@Component
+public class FanOutExecutor {
+
+    private final AsyncTaskExecutor executor;
+
+    @Autowired
+    public FanOutExecutor(
+            Environment environment,
+            @Value("${employee.api.fan-out.threads:32}") int threads,
+            @Value("${employee.api.fan-out.queue-capacity:1000}") int queueCapacity) {
+        this(create(Threading.VIRTUAL.isActive(environment), threads, queueCapacity));
+    }
+
+    public FanOutExecutor(AsyncTaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    private static AsyncTaskExecutor create(boolean virtualThreads, int threads, int queueCapacity) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("employee-api-fan-out-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        if (threads < 1) {
+            throw new IllegalStateException("employee.api.fan-out.threads must be at least 1, was " + threads);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("employee-api-fan-out-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(Math.max(0, queueCapacity));
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs {@code call} on the shared executor, bound to {@code deadline}, once one of {@code permits} is free. Waits
+     * for a permit no longer than the deadline allows; the returned future then fails with
+     * {@link DeadlineExceededException}. A full queue fails it with {@link TaskRejectedException}. The permit is given
+     * back when the call finishes.
+     */
+    public <T> Future<T> submit(Semaphore permits, Deadline deadline, Supplier<T> call) {
+        try {
+            if (!permits.tryAcquire(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS)) {
+                return CompletableFuture.failedFuture(
+                        new DeadlineExceededException("Request deadline passed before an upstream call could start"));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(
+                    new EmployeeApiException("Interrupted while waiting to start an upstream call", ex));
+        }
+        try {
+            return executor.submit(() -> {
+                try (Deadline.Scope ignored = Deadline.bind(deadline)) {
+                    return call.get();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (TaskRejectedException ex) {
+            permits.release();
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws Exception {
+        if (executor instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
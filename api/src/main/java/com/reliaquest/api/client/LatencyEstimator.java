@@ -0,0 +1,23 @@
+package com.reliaquest.api.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exponentially weighted moving average of upstream attempt latency, used to judge whether a retry still fits in a
+ * request's deadline.
+ */
+final class LatencyEstimator {
+
+    private static final double WEIGHT = 0.2;
+
+    private final AtomicLong averageNanos = new AtomicLong();
+
+    void record(long nanos) {
+        averageNanos.accumulateAndGet(
+                nanos, (average, sample) -> average == 0 ? sample : (long) (average + WEIGHT * (sample - average)));
+    }
+
+    long estimateNanos() {
+        return averageNanos.get();
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.client.HttpStatusCodeException;
+
+/**
+ * Times logical upstream calls, retries and waits included, as {@code employee.api.client.requests} tagged with
+ * {@code operation} and {@code outcome}.
+ *
+ * <p>Outcomes are a closed set so that alerts can rely on them: {@code success}, {@code client_error},
+ * {@code server_error}, {@code rate_limited}, {@code deadline_exceeded}, {@code bulkhead_full}, {@code circuit_open}
+ * and {@code error} for anything else, such as I/O failures.
+ */
+final class OperationTimer {
+
+    static final String NAME = "employee.api.client.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    OperationTimer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Stops {@code sample} for {@code operation}; {@code failure} is the untranslated failure, or null on success.
+     */
+    void stop(Timer.Sample sample, String operation, Throwable failure) {
+        sample.stop(Timer.builder(NAME)
+                .description("Upstream employee API calls, including retries and rate-limit waits")
+                .tag("operation", operation)
+                .tag("outcome", outcome(failure))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    static String outcome(Throwable failure) {
+        if (failure == null) {
+            return "success";
+        }
+        if (failure instanceof UpstreamRateLimitedException) {
+            return "rate_limited";
+        }
+        if (failure instanceof DeadlineExceededException) {
+            return "deadline_exceeded";
+        }
+        if (failure instanceof BulkheadFullException) {
+            return "bulkhead_full";
+        }
+        if (failure instanceof CallNotPermittedException) {
+            return "circuit_open";
+        }
+        if (failure instanceof HttpStatusCodeException ex) {
+            return ex.getStatusCode().is4xxClientError() ? "client_error" : "server_error";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Routes every upstream call through the {@link AdaptiveRateLimiter}.
+ *
+ * <p>A 429 is absorbed here rather than surfaced to the retry layer: the call is replayed once the limiter expects the
+ * window to reopen, provided that happens within the limiter's maximum wait and the request's {@link Deadline}, and
+ * fails with {@link UpstreamRateLimitedException} otherwise. With the limiter switched off nothing is replayed and a
+ * 429 fails straight away. This interceptor must be registered last so that a replay re-executes only the underlying
+ * request.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AdaptiveRateLimiter rateLimiter;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long deadline = System.nanoTime() + Deadline.current().cap(rateLimiter.getMaxWait()).toNanos();
+        while (true) {
+            rateLimiter.acquire(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+            ClientHttpResponse response = execution.execute(request, body);
+            if (response.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                rateLimiter.onAccepted();
+                return response;
+            }
+            HttpHeaders headers = response.getHeaders();
+            response.close();
+            onRateLimited(rateLimiter, headers, deadline);
+        }
+    }
+
+    /**
+     * Records a 429 and returns only if the call may be replayed: the limiter is on and expects the upstream to reopen
+     * before {@code deadline}, a {@link System#nanoTime()} instant. Throws {@link UpstreamRateLimitedException}
+     * otherwise, so a replay loop always ends.
+     */
+    static void onRateLimited(AdaptiveRateLimiter rateLimiter, HttpHeaders headers, long deadline) {
+        Duration retryAfter = retryAfter(headers);
+        if (!rateLimiter.isEnabled()) {
+            throw new UpstreamRateLimitedException(retryAfter != null ? retryAfter : Duration.ZERO);
+        }
+        Duration blocked = rateLimiter.onRateLimited(retryAfter);
+        if (System.nanoTime() + blocked.toNanos() >= deadline) {
+            throw new UpstreamRateLimitedException(blocked);
+        }
+    }
+
+    static Duration retryAfter(HttpHeaders headers) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // Not delta-seconds; fall through to the HTTP-date form.
+        }
+        try {
+            ZonedDateTime date = headers.getFirstZonedDateTime(HttpHeaders.RETRY_AFTER);
+            Duration wait = date != null ? Duration.between(ZonedDateTime.now(date.getZone()), date) : null;
+            return wait != null && !wait.isNegative() ? wait : Duration.ZERO;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Reads the upstream roster envelope, {@code {"data":[...], "status":...}}, off the token stream and hands each
+ * employee to a consumer as soon as its object closes. Only the employee being parsed is held in memory, so the cost
+ * of a read does not grow with the roster.
+ */
+final class RosterStreamReader {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader employeeReader;
+
+    RosterStreamReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.employeeReader = objectMapper.readerFor(Employee.class);
+    }
+
+    /**
+     * Streams every element of {@code data} to {@code consumer} and returns how many there were. Other envelope fields
+     * are skipped.
+     */
+    long read(InputStream body, Consumer<? super Employee> consumer) throws IOException {
+        long count = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new EmployeeApiException("Unexpected roster response: expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"data".equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    consumer.accept(employeeReader.readValue(parser));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,182 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.EmployeeApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent calls that share a key. The first caller for a key runs the call; everyone who arrives
+ * while it is running waits for, and receives, the same result or the same failure.
+ *
+ * <p>A follower waits no longer than its own {@link Deadline}. A leader that fails only because its own deadline ran
+ * out says nothing about the upstream, so a follower with time left runs the call again rather than share that
+ * failure.
+ *
+ * <p>Publishes {@code employee.api.client.coalescing.requests} tagged with {@code role=leader|follower} (the follower
+ * share is the coalescing rate) and {@code employee.api.client.coalescing.fan.in}, the number of callers served by
+ * each upstream call.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+    private final DistributionSummary fanIn;
+
+    public SingleFlight(String operation, MeterRegistry meterRegistry) {
+        this.leaders = Counter.builder("employee.api.client.coalescing.requests")
+                .tag("operation", operation)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.followers = Counter.builder("employee.api.client.coalescing.requests")
+                .tag("operation", operation)
+                .tag("role", "follower")
+                .register(meterRegistry);
+        this.fanIn = DistributionSummary.builder("employee.api.client.coalescing.fan.in")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        Deadline deadline = Deadline.current();
+        while (true) {
+            Flight<V> flight = new Flight<>();
+            Flight<V> existing = flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                return lead(key, flight, call);
+            }
+            existing.joined.incrementAndGet();
+            followers.increment();
+            try {
+                return existing.await(deadline);
+            } catch (DeadlineExceededException ex) {
+                if (!existing.result.isCompletedExceptionally() || !leaderRanOutOfTime(ex) || deadline.isExpired()) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> call) {
+        leaders.increment();
+        try {
+            V value = call.get();
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            flights.remove(key, flight);
+            fanIn.record(1 + flight.joined.get());
+        }
+    }
+
+    /**
+     * Asynchronous form of {@link #execute}: followers get the leader's future instead of blocking on it.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> call) {
+        Flight<V> flight = new Flight<>();
+        Flight<V> existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            existing.joined.incrementAndGet();
+            followers.increment();
+            return follow(key, existing, call, Deadline.current());
+        }
+
+        leaders.increment();
+        CompletableFuture<V> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error ex) {
+            result = CompletableFuture.failedFuture(ex);
+        }
+        result.whenComplete((value, failure) -> {
+            flights.remove(key, flight);
+            fanIn.record(1 + flight.joined.get());
+            if (failure != null) {
+                flight.result.completeExceptionally(
+                        failure instanceof CompletionException && failure.getCause() != null
+                                ? failure.getCause()
+                                : failure);
+            } else {
+                flight.result.complete(value);
+            }
+        });
+        return flight.result;
+    }
+
+    private CompletableFuture<V> follow(
+            K key, Flight<V> existing, Supplier<CompletableFuture<V>> call, Deadline deadline) {
+        CompletableFuture<V> followed = new CompletableFuture<>();
+        existing.result.whenComplete((value, failure) -> {
+            if (failure == null) {
+                followed.complete(value);
+            } else if (leaderRanOutOfTime(failure) && !deadline.isExpired()) {
+                try (Deadline.Scope ignored = Deadline.bind(deadline)) {
+                    executeAsync(key, call).whenComplete((retried, retryFailure) -> {
+                        if (retryFailure != null) {
+                            followed.completeExceptionally(retryFailure);
+                        } else {
+                            followed.complete(retried);
+                        }
+                    });
+                }
+            } else {
+                followed.completeExceptionally(failure);
+            }
+        });
+        if (deadline.isBounded() && !followed.isDone()) {
+            CompletableFuture.delayedExecutor(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS)
+                    .execute(() -> followed.completeExceptionally(expired()));
+        }
+        return followed;
+    }
+
+    /**
+     * A deadline failure without a cause only means the leader's caller ran out of time, not that the upstream failed.
+     */
+    private static boolean leaderRanOutOfTime(Throwable failure) {
+        return failure instanceof DeadlineExceededException && failure.getCause() == null;
+    }
+
+    private static DeadlineExceededException expired() {
+        return new DeadlineExceededException("Deadline expired while waiting for a coalesced call");
+    }
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger joined = new AtomicInteger();
+
+        V await(Deadline deadline) {
+            try {
+                return deadline.isBounded()
+                        ? result.get(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS)
+                        : result.join();
+            } catch (TimeoutException ex) {
+                throw expired();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new EmployeeApiException("Interrupted while waiting for a coalesced call", ex);
+            } catch (ExecutionException | CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (ex.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw new CompletionException(ex.getCause());
+            }
+        }
+    }
+}
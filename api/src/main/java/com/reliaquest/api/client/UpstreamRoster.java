@@ -0,0 +1,23 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+
+/**
+ * The roster as the upstream last sent it, with the entity tag it came with, if any.
+ */
+record UpstreamRoster(String etag, List<Employee> employees) {
+
+    /**
+     * The entity tag without its quotes or weak prefix, which is what the upstream's change feed takes as the position
+     * to continue from. {@code null} when the upstream sent no tag.
+     */
+    String cursor() {
+        if (etag == null) {
+            return null;
+        }
+        String tag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        boolean quoted = tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"");
+        return quoted ? tag.substring(1, tag.length() - 1) : tag;
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.Deadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Starts the {@link Deadline} for each incoming request and binds it to the handling thread for the upstream clients.
+ * Registers its own properties, so that MVC slice tests, which pick up filters but not configuration classes, can still
+ * build it.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(DeadlineProperties.class)
+@RequiredArgsConstructor
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final DeadlineProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (Deadline.Scope ignored = Deadline.bind(Deadline.after(timeoutFor(request)))) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    Duration timeoutFor(HttpServletRequest request) {
+        String header = request.getHeader(properties.getHeader());
+        if (header != null && !header.isBlank()) {
+            Duration requested = parse(header.trim());
+            if (requested != null && !requested.isNegative()) {
+                return requested.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout() : requested;
+            }
+            log.debug("Ignoring unparseable {} header: {}", properties.getHeader(), header);
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, Duration> endpoint : properties.getEndpoints().entrySet()) {
+            if (pathMatcher.match(endpoint.getKey(), path)) {
+                return endpoint.getValue();
+            }
+        }
+        return properties.getDefaultTimeout();
+    }
+
+    private static Duration parse(String value) {
+        try {
+            return value.chars().allMatch(Character::isDigit)
+                    ? Duration.ofMillis(Long.parseLong(value))
+                    : DurationStyle.detectAndParse(value);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
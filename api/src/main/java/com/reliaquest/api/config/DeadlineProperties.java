@@ -0,0 +1,36 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * End-to-end time budgets for incoming requests, bound from {@code employee.api.deadline.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.api.deadline")
+public class DeadlineProperties {
+
+    /**
+     * Budget for requests that match no endpoint override and carry no timeout header.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Request header a caller can use to ask for a shorter or longer budget, in milliseconds or as a duration such
+     * as {@code 750ms}.
+     */
+    private String header = "X-Request-Timeout";
+
+    /**
+     * Upper bound on budgets requested through the header.
+     */
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Per-endpoint budgets keyed by Ant-style path pattern; the first match wins.
+     */
+    private Map<String, Duration> endpoints = new LinkedHashMap<>();
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Transport settings for calls from the api module to the mock employee server, bound from
+ * {@code employee.api.http.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.api.http")
+public class HttpClientProperties {
+
+    public enum Version {
+        HTTP_1_1,
+        HTTP_2
+    }
+
+    /**
+     * HTTP_1_1 uses a pooled Apache HttpClient; HTTP_2 uses the JDK client, which multiplexes over one connection per
+     * host and upgrades cleartext connections with h2c.
+     */
+    private Version version = Version.HTTP_1_1;
+
+    private int maxConnections = 50;
+    private int maxConnectionsPerRoute = 20;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(5);
+    private Duration poolAcquireTimeout = Duration.ofSeconds(1);
+
+    /**
+     * How long an idle pooled connection is kept when the server does not send a Keep-Alive header.
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    private Duration idleEviction = Duration.ofSeconds(30);
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    /**
+     * Send {@code Accept-Encoding: gzip} and transparently decompress responses.
+     */
+    private boolean compression = true;
+
+    /**
+     * Per-route overrides keyed by {@code host:port}.
+     */
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    /**
+     * Settings for {@code hostAndPort} with any configured route overrides applied on top of the defaults.
+     */
+    public Route routeFor(String hostAndPort) {
+        Route override = routes.get(hostAndPort);
+        Route effective = new Route();
+        effective.setMaxConnections(maxConnectionsPerRoute);
+        effective.setConnectTimeout(connectTimeout);
+        effective.setReadTimeout(readTimeout);
+        effective.setPoolAcquireTimeout(poolAcquireTimeout);
+        if (override != null) {
+            if (override.getMaxConnections() != null) {
+                effective.setMaxConnections(override.getMaxConnections());
+            }
+            if (override.getConnectTimeout() != null) {
+                effective.setConnectTimeout(override.getConnectTimeout());
+            }
+            if (override.getReadTimeout() != null) {
+                effective.setReadTimeout(override.getReadTimeout());
+            }
+            if (override.getPoolAcquireTimeout() != null) {
+                effective.setPoolAcquireTimeout(override.getPoolAcquireTimeout());
+            }
+        }
+        return effective;
+    }
+
+    @Data
+    public static class Route {
+        private Integer maxConnections;
+        private Duration connectTimeout;
+        private Duration readTimeout;
+        private Duration poolAcquireTimeout;
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.api.config;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes the resilience4j registries defined in {@link ResilienceConfig}, which are not the auto-configured ones
+ * and so are not picked up by resilience4j's own metrics auto-configuration.
+ *
+ * <p>On top of the standard {@code resilience4j.*} meters, every retry attempt is counted as
+ * {@code employee.api.client.retries} and every circuit breaker transition as
+ * {@code employee.api.client.circuit.breaker.transitions}, so that alerts need not derive them from gauges.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder resilienceMetrics(
+            RetryRegistry retryRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry) {
+        return meterRegistry -> {
+            TaggedRetryMetrics.ofRetryRegistry(retryRegistry).bindTo(meterRegistry);
+            TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry)
+                    .bindTo(meterRegistry);
+            TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+
+            retryRegistry.getAllRetries().forEach(retry -> countRetries(retry, meterRegistry));
+            retryRegistry.getEventPublisher().onEntryAdded(event -> countRetries(event.getAddedEntry(), meterRegistry));
+            circuitBreakerRegistry
+                    .getAllCircuitBreakers()
+                    .forEach(circuitBreaker -> countTransitions(circuitBreaker, meterRegistry));
+            circuitBreakerRegistry
+                    .getEventPublisher()
+                    .onEntryAdded(event -> countTransitions(event.getAddedEntry(), meterRegistry));
+        };
+    }
+
+    private static void countRetries(Retry retry, MeterRegistry meterRegistry) {
+        Counter retries = Counter.builder("employee.api.client.retries")
+                .tag("name", retry.getName())
+                .description("Retry attempts scheduled after a failed upstream call")
+                .register(meterRegistry);
+        retry.getEventPublisher().onRetry(event -> retries.increment());
+    }
+
+    private static void countTransitions(CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> Counter.builder(
+                        "employee.api.client.circuit.breaker.transitions")
+                .tag("name", circuitBreaker.getName())
+                .tag("from", event.getStateTransition().getFromState().name().toLowerCase())
+                .tag("to", event.getStateTransition().getToState().name().toLowerCase())
+                .description("Circuit breaker state transitions")
+                .register(meterRegistry)
+                .increment());
+    }
+}
@@ -1,20 +1,67 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.RosterSnapshotExpiredException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class ResilienceConfig {
 
+    @Value("${employee.api.bulkhead.max-concurrent-calls:20}")
+    private int bulkheadMaxConcurrentCalls;
+
+    @Value("${employee.api.bulkhead.max-wait:0ms}")
+    private Duration bulkheadMaxWait;
+
+    /**
+     * Upstream rate limiting is handled by the adaptive limiter, which already waited as long as the caller allows;
+     * retrying it would only park the thread again, and it says nothing about the upstream's health. A spent deadline
+     * or a full bulkhead cannot be fixed by trying again either, and neither can a page of an expired roster snapshot.
+     */
     @Bean
     public RetryRegistry retryRegistry() {
-        return RetryRegistry.ofDefaults();
+        return RetryRegistry.of(RetryConfig.custom()
+                .ignoreExceptions(
+                        UpstreamRateLimitedException.class,
+                        DeadlineExceededException.class,
+                        BulkheadFullException.class,
+                        RosterSnapshotExpiredException.class)
+                .build());
     }
 
+    /**
+     * A {@link DeadlineExceededException} with a cause stands in for an upstream failure that could not be retried in
+     * time and still counts against the upstream; one without a cause only means the caller ran out of time.
+     */
     @Bean
     public CircuitBreakerRegistry circuitBreakerRegistry() {
-        return CircuitBreakerRegistry.ofDefaults();
+        return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .ignoreException(ex -> ex instanceof UpstreamRateLimitedException
+                        || ex instanceof BulkheadFullException
+                        || ex instanceof RosterSnapshotExpiredException
+                        || (ex instanceof DeadlineExceededException && ex.getCause() == null))
+                .build());
+    }
+
+    /**
+     * Caps concurrent upstream calls per operation, so that one slow endpoint cannot tie up every request thread.
+     */
+    @Bean
+    public BulkheadRegistry bulkheadRegistry() {
+        return BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(bulkheadMaxConcurrentCalls)
+                .maxWaitDuration(bulkheadMaxWait)
+                .build());
     }
 }
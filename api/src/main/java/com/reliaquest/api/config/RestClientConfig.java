@@ -1,13 +1,202 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.Deadline;
+import com.reliaquest.api.client.RateLimitInterceptor;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+@Slf4j
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class RestClientConfig {
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            ClientHttpRequestFactory employeeApiRequestFactory,
+            HttpClientProperties properties,
+            RateLimitInterceptor rateLimitInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(employeeApiRequestFactory);
+        if (properties.getVersion() == HttpClientProperties.Version.HTTP_2 && properties.isCompression()) {
+            restTemplate.getInterceptors().add(new GzipResponseInterceptor());
+        }
+        // Last, so that replaying a rate-limited call skips the interceptors ahead of it.
+        restTemplate.getInterceptors().add(rateLimitInterceptor);
+        return restTemplate;
+    }
+
+    @Bean
+    public ClientHttpRequestFactory employeeApiRequestFactory(
+            HttpClientProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getVersion() == HttpClientProperties.Version.HTTP_2) {
+            log.info("Using the JDK HTTP/2 client for the employee API");
+            return http2RequestFactory(properties);
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = connectionManager(properties);
+        bindPoolMetrics(connectionManager, meterRegistry);
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig(properties, properties.routeFor(null)))
+                .evictExpiredConnections()
+                .evictIdleConnections(timeValue(properties.getIdleEviction()));
+        if (!properties.isCompression()) {
+            builder.disableContentCompression();
+        }
+        return new RouteAwareRequestFactory(builder.build(), properties);
+    }
+
+    private static PoolingHttpClientConnectionManager connectionManager(HttpClientProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .build();
+        connectionManager.setConnectionConfigResolver(
+                route -> connectionConfig(properties, properties.routeFor(hostAndPort(route.getTargetHost()))));
+        properties.getRoutes().keySet().forEach(hostAndPort -> {
+            int separator = hostAndPort.lastIndexOf(':');
+            String host = hostAndPort.substring(0, separator);
+            int port = Integer.parseInt(hostAndPort.substring(separator + 1));
+            connectionManager.setMaxPerRoute(
+                    new HttpRoute(new HttpHost(host, port)),
+                    properties.routeFor(hostAndPort).getMaxConnections());
+        });
+        return connectionManager;
+    }
+
+    private static ConnectionConfig connectionConfig(
+            HttpClientProperties properties, HttpClientProperties.Route route) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(timeout(route.getConnectTimeout()))
+                .setSocketTimeout(timeout(route.getReadTimeout()))
+                .setValidateAfterInactivity(timeValue(properties.getValidateAfterInactivity()))
+                .build();
+    }
+
+    static RequestConfig requestConfig(HttpClientProperties properties, HttpClientProperties.Route route) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(timeout(route.getPoolAcquireTimeout()))
+                .setResponseTimeout(timeout(route.getReadTimeout()))
+                .setConnectionKeepAlive(timeValue(properties.getKeepAlive()))
+                .build();
+    }
+
+    private static ClientHttpRequestFactory http2RequestFactory(HttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        return requestFactory;
+    }
+
+    private static void bindPoolMetrics(PoolingHttpClientConnectionManager connectionManager, MeterRegistry registry) {
+        poolGauge(registry, connectionManager, "leased", PoolStats::getLeased);
+        poolGauge(registry, connectionManager, "available", PoolStats::getAvailable);
+        poolGauge(registry, connectionManager, "pending", PoolStats::getPending);
+        Gauge.builder("employee.api.http.pool.max", connectionManager, manager -> manager.getTotalStats()
+                        .getMax())
+                .description("Maximum connections in the employee API connection pool")
+                .register(registry);
+    }
+
+    private static void poolGauge(
+            MeterRegistry registry,
+            PoolingHttpClientConnectionManager connectionManager,
+            String state,
+            ToDoubleFunction<PoolStats> stat) {
+        Gauge.builder(
+                        "employee.api.http.pool.connections",
+                        connectionManager,
+                        manager -> stat.applyAsDouble(manager.getTotalStats()))
+                .tag("state", state)
+                .description("Connections in the employee API connection pool by state")
+                .register(registry);
+    }
+
+    private static String hostAndPort(HttpHost host) {
+        return host.getHostName() + ":" + host.getPort();
+    }
+
+    static String hostAndPort(URI uri) {
+        int port = uri.getPort() != -1 ? uri.getPort() : "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        return uri.getHost() + ":" + port;
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue timeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+
+    /**
+     * Applies per-route pool-acquire and read timeouts, which Apache HttpClient only takes per request, shortened to
+     * the current request's {@link Deadline}.
+     */
+    static class RouteAwareRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+        // HttpClient reads a timeout of 0ms as no timeout at all, so a nearly spent deadline must not round down to it.
+        private static final Duration MIN_TIMEOUT = Duration.ofMillis(1);
+
+        private final HttpClientProperties properties;
+
+        RouteAwareRequestFactory(CloseableHttpClient httpClient, HttpClientProperties properties) {
+            super(httpClient);
+            this.properties = properties;
+        }
+
+        @Override
+        protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+            String route = hostAndPort(uri);
+            Deadline deadline = Deadline.current();
+            if (!deadline.isBounded() && !properties.getRoutes().containsKey(route)) {
+                return null;
+            }
+            if (deadline.isExpired()) {
+                throw new DeadlineExceededException("Deadline expired before calling " + route);
+            }
+            HttpClientProperties.Route effective = properties.routeFor(route);
+            effective.setReadTimeout(cap(deadline, effective.getReadTimeout()));
+            effective.setPoolAcquireTimeout(cap(deadline, effective.getPoolAcquireTimeout()));
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(requestConfig(properties, effective));
+            return context;
+        }
+
+        static Duration cap(Deadline deadline, Duration timeout) {
+            Duration capped = deadline.cap(timeout);
+            return capped.toMillis() < MIN_TIMEOUT.toMillis() ? MIN_TIMEOUT : capped;
+        }
     }
 }
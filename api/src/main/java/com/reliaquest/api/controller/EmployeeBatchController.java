@@ -0,0 +1,61 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.EmployeeBulkCreateRequest;
+import com.reliaquest.api.model.EmployeeCreateResult;
+import com.reliaquest.api.model.EmployeeLookupRequest;
+import com.reliaquest.api.model.EmployeeLookupResult;
+import com.reliaquest.api.service.EmployeeBatchService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Endpoints that work on many employees per request. They live apart from {@link EmployeeControllerImpl} so that
+ * {@link IEmployeeController} keeps the contract it was given.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/batch")
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeBatchController {
+
+    private final EmployeeBatchService service;
+
+    /**
+     * Looks up to {@code employee.api.batch.max-ids} employees by id. Answers 200 with one result per distinct id, in
+     * the order asked for, each with its own status: 200 and the employee, or 400, 404, 500, 503 or 504 and an error.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<List<EmployeeLookupResult>> getEmployeesByIds(@RequestBody EmployeeLookupRequest request) {
+        List<String> ids = request.getIds();
+        log.info("POST /api/v1/employee/batch/lookup called with {} ids", ids == null ? 0 : ids.size());
+        List<EmployeeLookupResult> results = service.getEmployeesByIds(ids);
+        log.debug("Looked up {} employees", results.size());
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Creates up to {@code employee.api.batch.max-creates} employees. Every one is validated before any is sent
+     * upstream. Answers 200 with one result per employee, in the order given, each with its own status: 201 and the
+     * employee as created, or 400, 500, 503 or 504 and an error.
+     */
+    @PostMapping("/create")
+    public ResponseEntity<List<EmployeeCreateResult>> createEmployees(@RequestBody EmployeeBulkCreateRequest request) {
+        List<CreateEmployeeRequest> employees = request.getEmployees();
+        log.info(
+                "POST /api/v1/employee/batch/create called with {} employees",
+                employees == null ? 0 : employees.size());
+        List<EmployeeCreateResult> results = service.createEmployees(employees);
+        log.debug(
+                "Created {} of {} employees",
+                results.stream().filter(result -> result.getStatus() == 201).count(),
+                results.size());
+        return ResponseEntity.ok(results);
+    }
+}
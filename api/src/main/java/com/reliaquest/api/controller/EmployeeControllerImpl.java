@@ -3,14 +3,31 @@ package com.reliaquest.api.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.AsyncEmployeeService;
 import com.reliaquest.api.service.EmployeeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.ModelAndViewContainer;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -20,31 +37,53 @@ public class EmployeeControllerImpl implements IEmployeeController {
 
     private final EmployeeService service;
 
+    /**
+     * Present only when {@code employee.api.client.mode=async}; handlers then complete through servlet async
+     * processing instead of calling the blocking service.
+     */
+    private final ObjectProvider<AsyncEmployeeService> asyncService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Value("${employee.api.response.flush-threshold:8KB}")
+    private DataSize flushThreshold = DataSize.ofKilobytes(8);
+
     @Override
     @GetMapping
     public ResponseEntity<List<Employee>> getAllEmployees() {
         log.info("GET /api/v1/employee called");
-        List<Employee> employees = service.getAllEmployees();
-        log.debug("Fetched {} employees", employees.size());
-        return ResponseEntity.ok(employees);
+        AsyncEmployeeService async = asyncService.getIfAvailable();
+        if (async != null) {
+            return completeAsync(async.getAllEmployees().thenApply(ResponseEntity::ok));
+        }
+        long written = writeArray(service::streamAllEmployees);
+        log.debug("Fetched {} employees", written);
+        return null;
     }
 
     @Override
     @GetMapping("/search/{name}")
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String name) {
         log.info("GET /api/v1/employee/search/{} called", name);
+        AsyncEmployeeService async = asyncService.getIfAvailable();
+        if (async != null) {
+            return completeAsync(async.getEmployeesByNameSearch(name).thenApply(ResponseEntity::ok));
+        }
         List<Employee> employees = service.getEmployeesByNameSearch(name);
+        writeArray(employees::forEach);
         log.debug("Found {} employees matching '{}'", employees.size(), name);
-        return ResponseEntity.ok(employees);
+        return null;
     }
 
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<Employee> getEmployeeById(@PathVariable String id) {
         log.info("GET /api/v1/employee/{} called", id);
+        AsyncEmployeeService async = asyncService.getIfAvailable();
+        if (async != null) {
+            return completeAsync(async.getEmployeeById(id).thenApply(ResponseEntity::ok));
+        }
         Employee emp = service.getEmployeeById(id);
         log.debug("Fetched employee: {}", emp);
         return ResponseEntity.ok(emp);
@@ -54,6 +93,10 @@ public class EmployeeControllerImpl implements IEmployeeController {
     @GetMapping("/highest-salary")
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         log.info("GET /api/v1/employee/highest-salary called");
+        AsyncEmployeeService async = asyncService.getIfAvailable();
+        if (async != null) {
+            return completeAsync(async.getHighestSalaryOfEmployees().thenApply(ResponseEntity::ok));
+        }
         Integer highest = service.getHighestSalaryOfEmployees();
         log.debug("Highest salary: {}", highest);
         return ResponseEntity.ok(highest);
@@ -63,6 +106,10 @@ public class EmployeeControllerImpl implements IEmployeeController {
     @GetMapping("/top-ten-highest-earning")
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.info("GET /api/v1/employee/top-ten-highest-earning called");
+        AsyncEmployeeService async = asyncService.getIfAvailable();
+        if (async != null) {
+            return completeAsync(async.getTopTenHighestEarningEmployeeNames().thenApply(ResponseEntity::ok));
+        }
         List<String> topTen = service.getTopTenHighestEarningEmployeeNames();
         log.debug("Top earning employees: {}", topTen);
         return ResponseEntity.ok(topTen);
@@ -72,6 +119,11 @@ public class EmployeeControllerImpl implements IEmployeeController {
     public ResponseEntity<Employee> createEmployee(@RequestBody Object request) {
         log.info("POST /api/v1/employee called with request: {}", request);
         CreateEmployeeRequest createRequest = objectMapper.convertValue(request, CreateEmployeeRequest.class);
+        AsyncEmployeeService async = asyncService.getIfAvailable();
+        if (async != null) {
+            return completeAsync(async.createEmployee(createRequest)
+                    .thenApply(created -> ResponseEntity.status(HttpStatus.CREATED).body(created)));
+        }
 
         Employee response = service.createEmployee(createRequest);
         log.debug("Created employee: {}", response);
@@ -82,10 +134,71 @@ public class EmployeeControllerImpl implements IEmployeeController {
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteEmployeeById(@PathVariable String id) {
         log.info("DELETE /api/v1/employee/{} called", id);
+        AsyncEmployeeService async = asyncService.getIfAvailable();
+        if (async != null) {
+            return completeAsync(async.deleteEmployeeById(id).thenApply(this::deleted));
+        }
         String deletedName = service.deleteEmployeeById(id);
         log.debug("Deleted employee: {}", deletedName);
+        return deleted(deletedName);
+    }
+
+    /**
+     * Writes the employees {@code source} produces straight to the response as a JSON array and returns how many there
+     * were. Callers then return {@code null}, which Spring MVC takes as "response already handled". This skips the
+     * message converter, so the response never waits on the whole array being serialized first.
+     *
+     * <p>If the source fails before anything was flushed, the partial body is discarded so the exception handlers can
+     * still send a clean error. After that the response is already committed and can only be cut short.
+     */
+    private long writeArray(Consumer<Consumer<? super Employee>> source) {
+        HttpServletResponse response =
+                ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getResponse();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try {
+            return new JsonArrayResponseWriter(objectMapper.writerFor(Employee.class), flushThreshold)
+                    .write(response.getOutputStream(), source);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (RuntimeException ex) {
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw ex;
+        }
+    }
+
+    private ResponseEntity<String> deleted(String deletedName) {
         return ResponseEntity.noContent()
                 .header("Deleted-Employee", deletedName)
                 .build();
     }
+
+    /**
+     * Hands {@code response} to servlet async processing and returns {@code null}, which Spring MVC takes as "response
+     * pending": the request thread goes back to the pool and the response is written, or the failure handed to the
+     * exception handlers, once the future completes. The async dispatch resumes with the model container passed here,
+     * as it would for a handler that returned the {@link DeferredResult} itself.
+     */
+    private <T> ResponseEntity<T> completeAsync(CompletableFuture<ResponseEntity<T>> response) {
+        HttpServletRequest request =
+                ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        DeferredResult<ResponseEntity<T>> result = new DeferredResult<>();
+        try {
+            WebAsyncUtils.getAsyncManager(request).startDeferredResultProcessing(result, new ModelAndViewContainer());
+        } catch (Exception ex) {
+            throw new IllegalStateException("Could not start async request processing", ex);
+        }
+        response.whenComplete((value, failure) -> {
+            if (failure == null) {
+                result.setResult(value);
+            } else {
+                result.setErrorResult(
+                        failure instanceof CompletionException && failure.getCause() != null
+                                ? failure.getCause()
+                                : failure);
+            }
+        });
+        return null;
+    }
 }
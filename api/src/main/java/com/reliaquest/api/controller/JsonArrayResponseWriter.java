@@ -0,0 +1,124 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Writes a JSON array to a response body one element at a time, as a source produces them.
+ *
+ * <p>Nothing but the element being serialized and the generator's buffer is held; once at least the flush threshold
+ * has been written since the last flush the body is flushed, which commits the response and sends it as chunks. The
+ * bytes are the same as serializing the whole list at once with {@code elementWriter}.
+ */
+final class JsonArrayResponseWriter {
+
+    private final ObjectWriter elementWriter;
+    private final long flushThreshold;
+
+    JsonArrayResponseWriter(ObjectWriter elementWriter, DataSize flushThreshold) {
+        // The generator is flushed here on the threshold, not by Jackson after every element.
+        this.elementWriter = elementWriter.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushThreshold = Math.max(1, flushThreshold.toBytes());
+    }
+
+    /**
+     * Writes every element {@code source} passes to its consumer and returns how many there were. An element that
+     * fails to write is rethrown as {@link UncheckedIOException} from inside the source.
+     *
+     * <p>If the source fails, the body is left unflushed, so a response that has not reached the flush threshold yet
+     * is still uncommitted and can be reset for an error response.
+     */
+    <T> long write(OutputStream body, Consumer<Consumer<? super T>> source) throws IOException {
+        CountingOutputStream counted = new CountingOutputStream(body);
+        JsonGenerator generator = elementWriter.createGenerator(counted);
+        try {
+            ElementSink<T> sink = new ElementSink<>(generator, counted);
+            generator.writeStartArray();
+            source.accept(sink);
+            generator.writeEndArray();
+            generator.close();
+            return sink.written;
+        } catch (IOException | RuntimeException ex) {
+            abandon(generator, ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Releases {@code generator} without closing the array or flushing the body, as closing it normally would.
+     */
+    private static void abandon(JsonGenerator generator, Exception failure) {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        try {
+            generator.close();
+        } catch (IOException ex) {
+            failure.addSuppressed(ex);
+        }
+    }
+
+    private final class ElementSink<T> implements Consumer<T> {
+
+        private final JsonGenerator generator;
+        private final CountingOutputStream counted;
+        private long written;
+        private long flushedAt;
+
+        ElementSink(JsonGenerator generator, CountingOutputStream counted) {
+            this.generator = generator;
+            this.counted = counted;
+        }
+
+        @Override
+        public void accept(T element) {
+            try {
+                elementWriter.writeValue(generator, element);
+                written++;
+                long position = counted.count + generator.getOutputBuffered();
+                if (position - flushedAt >= flushThreshold) {
+                    generator.flush();
+                    flushedAt = position;
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Counts bytes on their way to the response and leaves closing the response to the container.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.api.exception;
+
+public class DeadlineExceededException extends EmployeeApiException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.api.exception;
+
+/**
+ * The upstream no longer holds the roster snapshot a paged fetch was reading, so the fetch has to start over from the
+ * first page. Retrying the same page cannot help.
+ */
+public class RosterSnapshotExpiredException extends EmployeeApiException {
+    public RosterSnapshotExpiredException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
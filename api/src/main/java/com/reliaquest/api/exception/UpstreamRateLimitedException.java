@@ -0,0 +1,15 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+@Getter
+public class UpstreamRateLimitedException extends EmployeeApiException {
+
+    private final Duration retryAfter;
+
+    public UpstreamRateLimitedException(Duration retryAfter) {
+        super("Upstream rate limit reached, retry after " + Math.max(1, retryAfter.toSeconds()) + "s");
+        this.retryAfter = retryAfter;
+    }
+}
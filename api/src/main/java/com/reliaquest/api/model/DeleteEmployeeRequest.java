@@ -0,0 +1,19 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The upstream's delete contract: the employee's {@code name}, plus its {@code id} so that only that employee is
+ * deleted when several share the name.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeleteEmployeeRequest {
+    private String name;
+    private String id;
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeleteEmployeeResponse {
+    // Whether the upstream deleted anyone.
+    private Boolean data;
+    private String status;
+}
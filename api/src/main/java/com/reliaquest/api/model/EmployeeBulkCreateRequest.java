@@ -0,0 +1,16 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Employees to create in one request, both for callers of the bulk endpoint and for the upstream's bulk create.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeBulkCreateRequest {
+    private List<CreateEmployeeRequest> employees;
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of creating one employee of a bulk request, identified by its position in the request: the HTTP status a
+ * single create would have answered with, and either the employee as created or the error.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeCreateResult {
+    private int index;
+    private int status;
+    private Employee employee;
+    private String error;
+
+    public static EmployeeCreateResult created(int index, Employee employee) {
+        return new EmployeeCreateResult(index, 201, employee, null);
+    }
+
+    public static EmployeeCreateResult failed(int index, int status, String error) {
+        return new EmployeeCreateResult(index, status, null, error);
+    }
+}
@@ -0,0 +1,16 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ids to look up in one request, both for callers of the batch endpoint and for the upstream's multi-id lookup.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeLookupRequest {
+    private List<String> ids;
+}
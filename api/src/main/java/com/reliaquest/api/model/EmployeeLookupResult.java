@@ -0,0 +1,29 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of looking up one id of a batch: the HTTP status a single lookup would have answered with, and either the
+ * employee or the error.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeLookupResult {
+    private String id;
+    private int status;
+    private Employee employee;
+    private String error;
+
+    public static EmployeeLookupResult found(String id, Employee employee) {
+        return new EmployeeLookupResult(id, 200, employee, null);
+    }
+
+    public static EmployeeLookupResult failed(String id, int status, String error) {
+        return new EmployeeLookupResult(id, status, null, error);
+    }
+}
@@ -1,5 +1,6 @@
 package com.reliaquest.api.model;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import java.util.List;
 import lombok.*;
 
@@ -10,6 +11,8 @@ import lombok.*;
 @Getter
 @Setter
 public class EmployeeResponse {
+    // The upstream sends a single object, not an array, for one employee.
+    @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
     private List<Employee> data;
     private String status;
 }
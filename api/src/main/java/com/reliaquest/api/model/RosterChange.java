@@ -0,0 +1,24 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of the upstream change feed: an employee that was created or deleted, and the upstream roster version
+ * that change produced.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RosterChange {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    private long sequence;
+    private Type type;
+    private Employee employee;
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Upstream changes after a cursor, oldest first. {@code resync} means the upstream no longer has them, and the roster
+ * has to be reloaded in full.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RosterChanges {
+    private String cursor;
+    private boolean resync;
+    private List<RosterChange> changes = List.of();
+}
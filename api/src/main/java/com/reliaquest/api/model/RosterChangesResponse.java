@@ -0,0 +1,13 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RosterChangesResponse {
+    private RosterChanges data;
+    private String status;
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of the upstream roster as of {@code snapshot}. Page cursors are {@code <snapshot>:<offset>}, so once the
+ * first page has given the snapshot and the total, the rest can be requested in any order.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RosterPage {
+    private String snapshot;
+    private int offset;
+    private int total;
+    private List<Employee> employees = List.of();
+    private String next;
+
+    public static String cursor(String snapshot, int offset) {
+        return snapshot + ':' + offset;
+    }
+}
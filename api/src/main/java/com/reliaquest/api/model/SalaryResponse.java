@@ -0,0 +1,14 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalaryResponse {
+    // Null when nobody upstream has a salary.
+    private Integer data;
+    private String status;
+}
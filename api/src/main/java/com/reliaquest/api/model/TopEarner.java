@@ -0,0 +1,17 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the upstream's salary ranking: the employee's id, name and salary only.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TopEarner {
+    private String id;
+    private String name;
+    private Integer salary;
+}
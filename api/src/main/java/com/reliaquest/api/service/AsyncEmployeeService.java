@@ -0,0 +1,25 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link EmployeeService} with results delivered as futures, for the non-blocking client mode.
+ */
+public interface AsyncEmployeeService {
+    CompletableFuture<List<Employee>> getAllEmployees();
+
+    CompletableFuture<List<Employee>> getEmployeesByNameSearch(String name);
+
+    CompletableFuture<Employee> getEmployeeById(String id);
+
+    CompletableFuture<Integer> getHighestSalaryOfEmployees();
+
+    CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNames();
+
+    CompletableFuture<Employee> createEmployee(CreateEmployeeRequest request);
+
+    CompletableFuture<String> deleteEmployeeById(String id);
+}
@@ -0,0 +1,123 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.NameIndex;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.cache.SalaryAggregates;
+import com.reliaquest.api.client.AsyncEmployeeApiClient;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Async counterpart of {@link DefaultEmployeeService}, honouring the same switches: reads come from the roster cache
+ * when it is on, and otherwise from the upstream, with salary statistics pushed down to it where it can aggregate.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "employee.api.client", name = "mode", havingValue = "async")
+public class DefaultAsyncEmployeeService implements AsyncEmployeeService {
+
+    private final AsyncEmployeeApiClient client;
+    private final EmployeeRosterCache rosterCache;
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        if (!rosterCache.isEnabled()) {
+            return client.getAllEmployees();
+        }
+        return rosterCache.snapshotAsync().thenApply(RosterSnapshot::getEmployees);
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getEmployeesByNameSearch(String name) {
+        if (!rosterCache.isEnabled()) {
+            return client.getAllEmployees().thenApply(employees -> employees.stream()
+                    .filter(NameIndex.matching(name))
+                    .toList());
+        }
+        return rosterCache.snapshotAsync().thenApply(snapshot -> snapshot.getNameIndex()
+                .search(name));
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeById(String id) {
+        log.info("Fetching employee with ID {}", id);
+        return client.getEmployeeById(id).thenApply(empResponse -> {
+            if (empResponse == null
+                    || empResponse.getData() == null
+                    || empResponse.getData().isEmpty()) {
+                throw new EmployeeNotFoundException("Employee not found with ID: " + id);
+            }
+            return empResponse.getData().get(0);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Integer> getHighestSalaryOfEmployees() {
+        if (!rosterCache.isEnabled()) {
+            return client.getHighestSalary()
+                    .thenCompose(pushedDown -> pushedDown
+                            .map(CompletableFuture::completedFuture)
+                            .orElseGet(() -> salaries().thenApply(SalaryAggregates::getMaxSalary)));
+        }
+        return salaries().thenApply(SalaryAggregates::getMaxSalary);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNames() {
+        if (!rosterCache.isEnabled()) {
+            return client.getTopEarnerNames(RosterSnapshot.TOP_EARNERS)
+                    .thenCompose(pushedDown -> pushedDown
+                            .map(CompletableFuture::completedFuture)
+                            .orElseGet(() -> salaries().thenApply(SalaryAggregates::getTopNames)));
+        }
+        return salaries().thenApply(SalaryAggregates::getTopNames);
+    }
+
+    /**
+     * Salary aggregates from the snapshot, or, with the cache off and an upstream that cannot aggregate, computed over
+     * the upstream roster.
+     */
+    private CompletableFuture<SalaryAggregates> salaries() {
+        if (rosterCache.isEnabled()) {
+            return rosterCache.snapshotAsync().thenApply(RosterSnapshot::getSalaries);
+        }
+        return client.getAllEmployees()
+                .thenApply(employees -> SalaryAggregates.of(employees, RosterSnapshot.TOP_EARNERS));
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployee(CreateEmployeeRequest request) {
+        return client.createEmployee(DefaultEmployeeService.toEmployee(request)).thenApply(created -> {
+            rosterCache.applyCreated(created);
+            return created;
+        });
+    }
+
+    /**
+     * Same single-round-trip delete as {@link DefaultEmployeeService#deleteEmployeeById(String)}.
+     */
+    @Override
+    public CompletableFuture<String> deleteEmployeeById(String id) {
+        RosterSnapshot held = rosterCache.peek();
+        Employee cached = held != null ? held.findById(id) : null;
+        CompletableFuture<Employee> lookup =
+                cached != null ? CompletableFuture.completedFuture(cached) : getEmployeeById(id);
+        return lookup.thenCompose(emp -> client.deleteEmployee(emp.getId(), emp.getEmployee_name())
+                .thenApply(deleted -> {
+                    rosterCache.applyDeleted(emp.getId());
+                    if (!deleted) {
+                        throw new EmployeeNotFoundException("Employee not found with ID: " + id);
+                    }
+                    return emp.getEmployee_name();
+                }));
+    }
+}
@@ -0,0 +1,375 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.Deadline;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.FanOutExecutor;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.InvalidEmployeeRequestException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeCreateResult;
+import com.reliaquest.api.model.EmployeeLookupResult;
+import com.reliaquest.api.model.EmployeeResponse;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Looks ids up in the roster snapshot first and sends only the misses upstream. Misses go in chunks through the
+ * upstream's multi-id lookup, or one by one when it has none. Creates are validated up front and go in chunks through
+ * the upstream's bulk create, or one by one likewise. Either way the calls run on the shared {@link FanOutExecutor}
+ * with at most {@code employee.api.batch.concurrency} in flight per request, and every call shares the request's
+ * {@link Deadline}; whatever is still outstanding when it passes is reported as 504.
+ */
+@Service
+@Slf4j
+public class DefaultEmployeeBatchService implements EmployeeBatchService {
+
+    private final EmployeeApiClient client;
+    private final EmployeeRosterCache rosterCache;
+    private final Validator validator;
+    private final FanOutExecutor executor;
+
+    @Value("${employee.api.batch.max-ids:1000}")
+    private int maxIds = 1000;
+
+    @Value("${employee.api.batch.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Value("${employee.api.batch.concurrency:8}")
+    private int concurrency = 8;
+
+    @Value("${employee.api.batch.max-creates:5000}")
+    private int maxCreates = 5000;
+
+    @Value("${employee.api.batch.create-chunk-size:100}")
+    private int createChunkSize = 100;
+
+    public DefaultEmployeeBatchService(
+            EmployeeApiClient client, EmployeeRosterCache rosterCache, Validator validator, FanOutExecutor executor) {
+        this.client = client;
+        this.rosterCache = rosterCache;
+        this.validator = validator;
+        this.executor = executor;
+    }
+
+    @Override
+    public List<EmployeeLookupResult> getEmployeesByIds(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidEmployeeRequestException("at least one id is required");
+        }
+        Set<String> distinct = new LinkedHashSet<>(ids);
+        if (distinct.size() > maxIds) {
+            throw new InvalidEmployeeRequestException("at most " + maxIds + " ids can be looked up at once");
+        }
+
+        // Keeps the requested order; misses hold a null until they are fetched.
+        Map<String, EmployeeLookupResult> results = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        RosterSnapshot snapshot = cachedRoster();
+        for (String id : distinct) {
+            if (!isEmployeeId(id)) {
+                results.put(id, EmployeeLookupResult.failed(id, HttpStatus.BAD_REQUEST.value(), "Not an employee id"));
+                continue;
+            }
+            Employee cached = snapshot != null ? snapshot.findById(id) : null;
+            if (cached != null) {
+                results.put(id, EmployeeLookupResult.found(id, cached));
+            } else {
+                results.put(id, null);
+                misses.add(id);
+            }
+        }
+        log.debug("Looking up {} ids, {} of them upstream", distinct.size(), misses.size());
+        results.putAll(fetch(misses));
+        return new ArrayList<>(results.values());
+    }
+
+    @Override
+    public List<EmployeeCreateResult> createEmployees(List<CreateEmployeeRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidEmployeeRequestException("at least one employee is required");
+        }
+        if (requests.size() > maxCreates) {
+            throw new InvalidEmployeeRequestException("at most " + maxCreates + " employees can be created at once");
+        }
+
+        EmployeeCreateResult[] results = new EmployeeCreateResult[requests.size()];
+        List<Integer> valid = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            String violations = violations(requests.get(index));
+            if (violations != null) {
+                results[index] = EmployeeCreateResult.failed(index, HttpStatus.BAD_REQUEST.value(), violations);
+            } else {
+                valid.add(index);
+            }
+        }
+        log.debug("Creating {} of {} employees upstream", valid.size(), requests.size());
+        create(requests, valid, results);
+
+        List<Employee> created = new ArrayList<>(valid.size());
+        for (EmployeeCreateResult result : results) {
+            if (result.getEmployee() != null) {
+                created.add(result.getEmployee());
+            }
+        }
+        rosterCache.applyCreated(created);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Creates the employees {@code requests} holds at {@code indexes} and records each outcome at its index in
+     * {@code results}.
+     */
+    private void create(List<CreateEmployeeRequest> requests, List<Integer> indexes, EmployeeCreateResult[] results) {
+        List<List<Integer>> chunks = chunks(indexes, createChunkSize);
+        List<Integer> oneByOne = new ArrayList<>();
+        List<Outcome<Optional<List<Employee>>>> sent =
+                fanOut(chunks, chunk -> client.createEmployees(chunk.stream()
+                        .map(index -> DefaultEmployeeService.toEmployee(requests.get(index)))
+                        .toList()));
+        for (int i = 0; i < chunks.size(); i++) {
+            List<Integer> chunk = chunks.get(i);
+            Outcome<Optional<List<Employee>>> outcome = sent.get(i);
+            if (outcome.failure() != null) {
+                chunk.forEach(index -> results[index] = failed(index, outcome.failure()));
+            } else if (outcome.value().isEmpty()) {
+                oneByOne.addAll(chunk);
+            } else {
+                List<Employee> created = outcome.value().get();
+                for (int j = 0; j < chunk.size(); j++) {
+                    results[chunk.get(j)] = EmployeeCreateResult.created(chunk.get(j), created.get(j));
+                }
+            }
+        }
+
+        List<Outcome<Employee>> createdOneByOne = fanOut(
+                oneByOne, index -> client.createEmployee(DefaultEmployeeService.toEmployee(requests.get(index))));
+        for (int i = 0; i < oneByOne.size(); i++) {
+            int index = oneByOne.get(i);
+            Outcome<Employee> outcome = createdOneByOne.get(i);
+            if (outcome.failure() != null) {
+                results[index] = failed(index, outcome.failure());
+            } else if (outcome.value() == null) {
+                results[index] = EmployeeCreateResult.failed(
+                        index,
+                        HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                        "Upstream did not return the created employee");
+            } else {
+                results[index] = EmployeeCreateResult.created(index, outcome.value());
+            }
+        }
+    }
+
+    /**
+     * The current roster snapshot, or {@code null} when the cache is off or has nothing to offer, in which case every
+     * id is fetched.
+     */
+    private RosterSnapshot cachedRoster() {
+        if (!rosterCache.isEnabled()) {
+            return null;
+        }
+        try {
+            return rosterCache.snapshot();
+        } catch (RuntimeException ex) {
+            log.warn("Roster cache unavailable, fetching the whole batch: {}", ex.toString());
+            return null;
+        }
+    }
+
+    private Map<String, EmployeeLookupResult> fetch(List<String> ids) {
+        Map<String, EmployeeLookupResult> results = new HashMap<>();
+        if (ids.isEmpty()) {
+            return results;
+        }
+        List<List<String>> chunks = chunks(ids, chunkSize);
+        List<String> oneByOne = new ArrayList<>();
+        List<Outcome<Optional<List<Employee>>>> looked = fanOut(chunks, client::getEmployeesByIds);
+        for (int i = 0; i < chunks.size(); i++) {
+            List<String> chunk = chunks.get(i);
+            Outcome<Optional<List<Employee>>> outcome = looked.get(i);
+            if (outcome.failure() != null) {
+                chunk.forEach(id -> results.put(id, failed(id, outcome.failure())));
+            } else if (outcome.value().isEmpty()) {
+                oneByOne.addAll(chunk);
+            } else {
+                Map<String, Employee> found = new HashMap<>();
+                outcome.value().get().forEach(employee -> found.put(employee.getId(), employee));
+                chunk.forEach(id -> results.put(id, foundOrMissing(id, found.get(id))));
+            }
+        }
+
+        List<Outcome<EmployeeResponse>> fetched = fanOut(oneByOne, client::getEmployeeById);
+        for (int i = 0; i < oneByOne.size(); i++) {
+            String id = oneByOne.get(i);
+            Outcome<EmployeeResponse> outcome = fetched.get(i);
+            results.put(
+                    id,
+                    outcome.failure() != null
+                            ? failed(id, outcome.failure())
+                            : foundOrMissing(id, firstOf(outcome.value())));
+        }
+        return results;
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Applies {@code call} to every input, in order, on the shared fan-out executor with at most
+     * {@code employee.api.batch.concurrency} calls of this batch in flight. The request's deadline goes with every
+     * call, and calls still waiting or outstanding when it passes are cancelled and fail with
+     * {@link DeadlineExceededException}. A single input runs on the calling thread.
+     */
+    private <I, O> List<Outcome<O>> fanOut(List<I> inputs, Function<I, O> call) {
+        if (inputs.size() <= 1) {
+            return inputs.stream().map(input -> Outcome.of(() -> call.apply(input))).toList();
+        }
+        Deadline deadline = Deadline.current();
+        Semaphore permits = new Semaphore(Math.min(concurrency, inputs.size()));
+        List<Future<O>> pending = new ArrayList<>(inputs.size());
+        for (I input : inputs) {
+            pending.add(executor.submit(permits, deadline, () -> call.apply(input)));
+        }
+        List<Outcome<O>> outcomes = new ArrayList<>(pending.size());
+        for (Future<O> future : pending) {
+            outcomes.add(await(future, deadline));
+        }
+        return outcomes;
+    }
+
+    private static <O> Outcome<O> await(Future<O> future, Deadline deadline) {
+        try {
+            return new Outcome<>(future.get(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS), null);
+        } catch (ExecutionException ex) {
+            return new Outcome<>(
+                    null,
+                    ex.getCause() instanceof RuntimeException cause
+                            ? cause
+                            : new EmployeeApiException("Batch lookup failed", ex.getCause()));
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            return new Outcome<>(null, new DeadlineExceededException("Request deadline passed during a batch lookup"));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return new Outcome<>(null, new EmployeeApiException("Interrupted during a batch lookup", ex));
+        }
+    }
+
+    private static EmployeeLookupResult foundOrMissing(String id, Employee employee) {
+        return employee != null
+                ? EmployeeLookupResult.found(id, employee)
+                : EmployeeLookupResult.failed(id, HttpStatus.NOT_FOUND.value(), "Employee not found with ID: " + id);
+    }
+
+    private static EmployeeLookupResult failed(String id, RuntimeException failure) {
+        if (failure.getCause() instanceof HttpClientErrorException.NotFound) {
+            return foundOrMissing(id, null);
+        }
+        return EmployeeLookupResult.failed(id, statusOf(failure), failure.getMessage());
+    }
+
+    private static EmployeeCreateResult failed(int index, RuntimeException failure) {
+        return EmployeeCreateResult.failed(index, statusOf(failure), failure.getMessage());
+    }
+
+    /**
+     * The status {@link com.reliaquest.api.exception.GlobalExceptionHandler} would have answered a single request
+     * failing with {@code failure}, except that a client error from upstream other than 429 keeps its own status.
+     */
+    private static int statusOf(RuntimeException failure) {
+        if (failure.getCause() instanceof HttpClientErrorException ex
+                && !(ex instanceof HttpClientErrorException.TooManyRequests)) {
+            return ex.getStatusCode().value();
+        }
+        if (failure instanceof DeadlineExceededException) {
+            return HttpStatus.GATEWAY_TIMEOUT.value();
+        }
+        if (failure instanceof UpstreamRateLimitedException
+                || failure instanceof BulkheadFullException
+                || failure instanceof TaskRejectedException) {
+            return HttpStatus.SERVICE_UNAVAILABLE.value();
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
+    /**
+     * What is wrong with {@code request}, one constraint after another, or {@code null} when it can be sent.
+     */
+    private String violations(CreateEmployeeRequest request) {
+        if (request == null) {
+            return "Employee is missing";
+        }
+        Set<ConstraintViolation<CreateEmployeeRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static Employee firstOf(EmployeeResponse response) {
+        return response != null && response.getData() != null && !response.getData().isEmpty()
+                ? response.getData().get(0)
+                : null;
+    }
+
+    private static boolean isEmployeeId(String id) {
+        if (id == null || id.isBlank()) {
+            return false;
+        }
+        try {
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private record Outcome<T>(T value, RuntimeException failure) {
+
+        static <T> Outcome<T> of(Supplier<T> call) {
+            try {
+                return new Outcome<>(call.get(), null);
+            } catch (RuntimeException ex) {
+                return new Outcome<>(null, ex);
+            }
+        }
+    }
+}
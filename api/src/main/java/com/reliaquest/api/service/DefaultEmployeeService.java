@@ -1,13 +1,19 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.NameIndex;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.cache.SalaryAggregates;
 import com.reliaquest.api.client.EmployeeApiClient;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeResponse;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import lombok.Builder;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -22,17 +28,39 @@ import org.springframework.stereotype.Service;
 public class DefaultEmployeeService implements EmployeeService {
 
     private final EmployeeApiClient client;
+    private final EmployeeRosterCache rosterCache;
 
     @Override
     public List<Employee> getAllEmployees() {
-        return client.getAllEmployees();
+        if (!rosterCache.isEnabled()) {
+            return client.getAllEmployees();
+        }
+        return rosterCache.snapshot().getEmployees();
+    }
+
+    @Override
+    public void streamAllEmployees(Consumer<? super Employee> consumer) {
+        if (!rosterCache.isEnabled()) {
+            client.streamAllEmployees(consumer);
+            return;
+        }
+        rosterCache.snapshot().getEmployees().forEach(consumer);
     }
 
     @Override
     public List<Employee> getEmployeesByNameSearch(String name) {
-        return client.getAllEmployees().stream()
-                .filter(emp -> emp.getEmployee_name().toLowerCase().contains(name.toLowerCase()))
-                .collect(Collectors.toList());
+        if (!rosterCache.isEnabled()) {
+            // Only the matches are kept; the rest of the roster is dropped as it is parsed.
+            Predicate<Employee> matches = NameIndex.matching(name);
+            List<Employee> found = new ArrayList<>();
+            client.streamAllEmployees(employee -> {
+                if (matches.test(employee)) {
+                    found.add(employee);
+                }
+            });
+            return found;
+        }
+        return rosterCache.snapshot().getNameIndex().search(name);
     }
 
     @Override
@@ -52,37 +80,71 @@ public class DefaultEmployeeService implements EmployeeService {
 
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        return client.getAllEmployees().stream()
-                .map(Employee::getEmployee_salary)
-                .max(Integer::compareTo)
-                .orElse(0);
+        if (!rosterCache.isEnabled()) {
+            Optional<Integer> pushedDown = client.getHighestSalary();
+            if (pushedDown.isPresent()) {
+                return pushedDown.get();
+            }
+        }
+        return salaries().getMaxSalary();
     }
 
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        return client.getAllEmployees().stream()
-                .sorted(Comparator.comparingInt(Employee::getEmployee_salary).reversed())
-                .limit(10)
-                .map(Employee::getEmployee_name)
-                .collect(Collectors.toList());
+        if (!rosterCache.isEnabled()) {
+            Optional<List<String>> pushedDown = client.getTopEarnerNames(RosterSnapshot.TOP_EARNERS);
+            if (pushedDown.isPresent()) {
+                return pushedDown.get();
+            }
+        }
+        return salaries().getTopNames();
     }
 
     @Override
     public Employee createEmployee(CreateEmployeeRequest request) {
+        Employee created = client.createEmployee(toEmployee(request));
+        rosterCache.applyCreated(created);
+        return created;
+    }
+
+    /**
+     * The upstream deletes by name, so the name comes from the held snapshot when the employee is in it, leaving the
+     * delete itself as the only round trip. The id travels with the name so that a namesake is never deleted instead.
+     */
+    @Override
+    public String deleteEmployeeById(String id) {
+        RosterSnapshot held = rosterCache.peek();
+        Employee cached = held != null ? held.findById(id) : null;
+        Employee emp = cached != null ? cached : getEmployeeById(id);
+        boolean deleted = client.deleteEmployee(emp.getId(), emp.getEmployee_name());
+        rosterCache.applyDeleted(emp.getId());
+        if (!deleted) {
+            throw new EmployeeNotFoundException("Employee not found with ID: " + id);
+        }
+        return emp.getEmployee_name();
+    }
+
+    /**
+     * Salary aggregates from the snapshot, which is already held and answers without a round trip, or, with the cache
+     * off and an upstream that cannot aggregate, folded over the upstream roster as it streams in so that only the
+     * current top earners are held.
+     */
+    private SalaryAggregates salaries() {
+        if (rosterCache.isEnabled()) {
+            return rosterCache.snapshot().getSalaries();
+        }
+        SalaryAggregates.Accumulator accumulator = new SalaryAggregates.Accumulator(RosterSnapshot.TOP_EARNERS);
+        client.streamAllEmployees(accumulator::accept);
+        return accumulator.build();
+    }
+
+    static Employee toEmployee(CreateEmployeeRequest request) {
         Employee employee = new Employee();
         employee.setEmployee_name(request.getName());
         employee.setEmployee_age(request.getAge());
         employee.setEmployee_title(request.getTitle());
         employee.setEmployee_email(request.getEmail());
         employee.setEmployee_salary(request.getSalary());
-
-        return client.createEmployee(employee);
-    }
-
-    @Override
-    public String deleteEmployeeById(String id) {
-        Employee emp = getEmployeeById(id);
-        client.deleteEmployeeById((emp.getId().toString()));
-        return emp.getEmployee_name();
+        return employee;
     }
 }
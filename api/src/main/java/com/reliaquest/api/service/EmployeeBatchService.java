@@ -0,0 +1,21 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.EmployeeCreateResult;
+import com.reliaquest.api.model.EmployeeLookupResult;
+import java.util.List;
+
+public interface EmployeeBatchService {
+
+    /**
+     * One result per distinct id, in the order the ids were given. A failure to find or fetch one id is reported in its
+     * result and does not fail the others.
+     */
+    List<EmployeeLookupResult> getEmployeesByIds(List<String> ids);
+
+    /**
+     * One result per request, in the order given. Every request is validated before any employee is sent upstream; one
+     * that is invalid or fails to be created is reported in its result and does not stop the others.
+     */
+    List<EmployeeCreateResult> createEmployees(List<CreateEmployeeRequest> requests);
+}
@@ -3,10 +3,19 @@ package com.reliaquest.api.service;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
     List<Employee> getAllEmployees();
 
+    /**
+     * Passes each employee of {@link #getAllEmployees()} to {@code consumer} in order, for callers that write them out
+     * one at a time.
+     */
+    default void streamAllEmployees(Consumer<? super Employee> consumer) {
+        getAllEmployees().forEach(consumer);
+    }
+
     List<Employee> getEmployeesByNameSearch(String name);
 
     Employee getEmployeeById(String id);
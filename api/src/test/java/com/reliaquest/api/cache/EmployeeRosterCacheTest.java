@@ -0,0 +1,238 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.RosterChange;
+import com.reliaquest.api.model.RosterChanges;
+import com.reliaquest.api.util.TestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class EmployeeRosterCacheTest {
+
+    private static final Employee ALICE = new Employee("1", "Alice", 50000, 30, "Engineer", "alice@test.com");
+    private static final Employee BOB = new Employee("2", "Bob", 70000, 35, "Manager", "bob@test.com");
+
+    private EmployeeApiClient client;
+    private QueuedExecutor executor;
+    private EmployeeRosterCache cache;
+
+    @BeforeEach
+    void setUp() {
+        client = Mockito.mock(EmployeeApiClient.class);
+        executor = new QueuedExecutor();
+        cache = new EmployeeRosterCache(client, executor, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void snapshot_loadsOnceAndServesFromMemoryWhileFresh() {
+        cache = new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry());
+        when(client.getAllEmployees()).thenReturn(List.of(ALICE));
+
+        RosterSnapshot first = cache.snapshot();
+        RosterSnapshot second = cache.snapshot();
+
+        assertSame(first, second);
+        assertEquals(List.of(ALICE), second.getEmployees());
+        verify(client, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void snapshot_servesStaleSnapshotWhileRefreshingInBackground() {
+        TestUtils.setField(cache, "ttl", Duration.ZERO);
+        when(client.getAllEmployees()).thenReturn(List.of(ALICE)).thenReturn(List.of(ALICE, BOB));
+
+        CompletableFuture<RosterSnapshot> initial = cache.refresh();
+        executor.runAll();
+        RosterSnapshot stale = initial.join();
+
+        assertSame(stale, cache.snapshot());
+        assertEquals(1, executor.pending());
+
+        executor.runAll();
+        RosterSnapshot refreshed = cache.snapshot();
+        assertEquals(2, refreshed.size());
+        assertEquals(stale.getVersion() + 1, refreshed.getVersion());
+    }
+
+    @Test
+    void refresh_isSingleFlight() {
+        when(client.getAllEmployees()).thenReturn(List.of(ALICE));
+
+        CompletableFuture<RosterSnapshot> first = cache.refresh();
+        CompletableFuture<RosterSnapshot> second = cache.refresh();
+
+        assertSame(first, second);
+        assertEquals(1, executor.pending());
+        executor.runAll();
+        verify(client, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void refresh_keepsTheSnapshotWhenTheClientReturnsTheSameRoster() {
+        cache = new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry());
+        List<Employee> roster = List.of(ALICE, BOB);
+        when(client.getAllEmployees()).thenReturn(roster);
+
+        RosterSnapshot loaded = cache.refresh().join();
+        RosterSnapshot revalidated = cache.refresh().join();
+
+        assertEquals(loaded.getVersion(), revalidated.getVersion());
+        assertSame(loaded.getSalaries(), revalidated.getSalaries());
+        assertSame(loaded.getEmployees(), revalidated.getEmployees());
+
+        cache.applyCreated(new Employee("3", "Carol", 60000, 40, "Lead", "carol@test.com"));
+        RosterSnapshot afterLocalChange = cache.refresh().join();
+        assertEquals(List.of(ALICE, BOB), afterLocalChange.getEmployees());
+        assertTrue(afterLocalChange.getVersion() > revalidated.getVersion() + 1);
+    }
+
+    @Test
+    void refresh_catchesUpFromTheChangeFeedWithoutReloading() {
+        cache = new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry());
+        List<Employee> roster = List.of(ALICE, BOB);
+        Employee carol = new Employee("3", "Carol", 90000, 40, "Lead", "carol@test.com");
+        when(client.getAllEmployees()).thenReturn(roster);
+        when(client.cursorOf(roster)).thenReturn("e-2");
+        when(client.getRosterChanges("e-2"))
+                .thenReturn(new RosterChanges(
+                        "e-4",
+                        false,
+                        List.of(
+                                new RosterChange(3, RosterChange.Type.CREATED, carol),
+                                new RosterChange(4, RosterChange.Type.DELETED, ALICE))));
+        cache.refresh().join();
+
+        RosterSnapshot caughtUp = cache.refresh().join();
+
+        assertEquals(List.of(BOB, carol), caughtUp.getEmployees());
+        assertEquals(90000, caughtUp.getSalaries().getMaxSalary());
+        assertEquals("e-4", caughtUp.getCursor());
+        verify(client, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void refresh_appliesFeedChangesIdempotentlyAndReloadsWhenAskedToResync() {
+        cache = new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry());
+        List<Employee> roster = List.of(ALICE);
+        when(client.getAllEmployees()).thenReturn(roster);
+        when(client.cursorOf(roster)).thenReturn("e-1");
+        when(client.getRosterChanges("e-1"))
+                .thenReturn(new RosterChanges(
+                        "e-2", false, List.of(new RosterChange(2, RosterChange.Type.CREATED, BOB))));
+        when(client.getRosterChanges("e-2")).thenReturn(new RosterChanges("e-9", true, List.of()));
+        cache.refresh().join();
+
+        // Created through this service before the feed reports it.
+        cache.applyCreated(BOB);
+        assertEquals(List.of(ALICE, BOB), cache.refresh().join().getEmployees());
+
+        cache.refresh().join();
+        verify(client, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void snapshot_propagatesFailureWhenNothingIsCached() {
+        cache = new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry());
+        when(client.getAllEmployees()).thenThrow(new EmployeeApiException("Remote API call failed"));
+
+        assertThrows(EmployeeApiException.class, () -> cache.snapshot());
+    }
+
+    @Test
+    void snapshot_keepsServingLastSnapshotWhenRefreshFails() {
+        TestUtils.setField(cache, "ttl", Duration.ZERO);
+        when(client.getAllEmployees())
+                .thenReturn(List.of(ALICE))
+                .thenThrow(new EmployeeApiException("Remote API call failed"));
+
+        CompletableFuture<RosterSnapshot> initial = cache.refresh();
+        executor.runAll();
+        RosterSnapshot loaded = initial.join();
+
+        assertSame(loaded, cache.snapshot());
+        executor.runAll();
+        assertSame(loaded, cache.snapshot());
+    }
+
+    @Test
+    void applyCreatedAndDeleted_updateSnapshotAndAggregatesWithoutUpstreamCalls() {
+        cache = new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry());
+        when(client.getAllEmployees()).thenReturn(List.of(ALICE));
+        RosterSnapshot loaded = cache.snapshot();
+
+        cache.applyCreated(BOB);
+        RosterSnapshot afterCreate = cache.snapshot();
+        assertEquals(List.of(ALICE, BOB), afterCreate.getEmployees());
+        assertEquals(70000, afterCreate.getSalaries().getMaxSalary());
+        assertEquals(List.of("Bob", "Alice"), afterCreate.getSalaries().getTopNames());
+
+        cache.applyDeleted("2");
+        RosterSnapshot afterDelete = cache.snapshot();
+        assertEquals(List.of(ALICE), afterDelete.getEmployees());
+        assertEquals(50000, afterDelete.getSalaries().getMaxSalary());
+        assertEquals(loaded.getVersion() + 2, afterDelete.getVersion());
+        verify(client, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void snapshot_countsReadsByResult() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cache = new EmployeeRosterCache(client, Runnable::run, meterRegistry);
+        when(client.getAllEmployees()).thenReturn(List.of(ALICE));
+
+        cache.snapshot();
+        cache.snapshot();
+        TestUtils.setField(cache, "ttl", Duration.ZERO);
+        cache.snapshot();
+
+        assertEquals(1, reads(meterRegistry, "miss"));
+        assertEquals(1, reads(meterRegistry, "hit"));
+        assertEquals(1, reads(meterRegistry, "stale"));
+    }
+
+    private static double reads(SimpleMeterRegistry meterRegistry, String result) {
+        return meterRegistry
+                .get("employee.api.cache.reads")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static class QueuedExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        int pending() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+    private static final List<Employee> ROSTER = List.of(
+            employee("1", "Tiger Nixon"),
+            employee("2", "Bill Bob"),
+            employee("3", "Jill Jenkins"),
+            employee("4", "Ben Langosh"),
+            employee("5", null),
+            employee("6", "BOBBY Tables"));
+
+    @Test
+    void search_matchesSubstringIgnoringCaseInRosterOrder() {
+        NameIndex index = NameIndex.of(ROSTER);
+
+        assertEquals(names("Bill Bob", "BOBBY Tables"), names(index.search("bob")));
+        assertEquals(names("Jill Jenkins"), names(index.search("ILL J")));
+        assertEquals(List.of(), index.search("xyz"));
+    }
+
+    @Test
+    void search_shortFragmentsScanFoldedNames() {
+        NameIndex index = NameIndex.of(ROSTER);
+
+        assertEquals(names("Bill Bob", "Jill Jenkins"), names(index.search("ll")));
+        assertEquals(5, index.search("").size());
+    }
+
+    @Test
+    void search_agreesWithLowercaseContainsScan() {
+        Random random = new Random(7);
+        String alphabet = "aAbBcC ";
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            roster.add(employee(String.valueOf(i), randomText(random, alphabet, 12)));
+        }
+        NameIndex index = NameIndex.of(roster);
+
+        for (int i = 0; i < 200; i++) {
+            String fragment = randomText(random, alphabet, 6);
+            List<Employee> expected = roster.stream()
+                    .filter(emp -> emp.getEmployee_name().toLowerCase().contains(fragment.toLowerCase()))
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.search(fragment), fragment);
+        }
+    }
+
+    @Test
+    void carriedOverIndex_searchesLikeOneBuiltFromScratch() {
+        Random random = new Random(11);
+        String alphabet = "aAbBcC ";
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            roster.add(employee(String.valueOf(i), randomText(random, alphabet, 12)));
+        }
+        NameIndex index = NameIndex.of(List.copyOf(roster));
+
+        // Four changes a round stays within the drift a 200-employee index allows before it asks for a full build.
+        for (int round = 0; round < 15; round++) {
+            List<Employee> added = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                added.add(employee("n" + round + "-" + i, randomText(random, alphabet, 12)));
+            }
+            String removedId = roster.get(random.nextInt(roster.size())).getId();
+            roster.removeIf(emp -> emp.getId().equals(removedId));
+            roster.addAll(added);
+            index = index.withRemoved(Set.of(removedId)).withAdded(added);
+
+            NameIndex rebuilt = NameIndex.of(List.copyOf(roster));
+            for (int i = 0; i < 20; i++) {
+                String fragment = randomText(random, alphabet, 6);
+                assertEquals(rebuilt.search(fragment), index.search(fragment), fragment);
+            }
+        }
+    }
+
+    @Test
+    void carriedOverIndex_asksForAFullBuildOnceTooMuchHasChanged() {
+        NameIndex index = NameIndex.of(ROSTER);
+        List<Employee> added = new ArrayList<>();
+        for (int i = 0; i < 65; i++) {
+            added.add(employee("n" + i, "Name " + i));
+        }
+
+        assertNotNull(index.withAdded(added.subList(0, 64)));
+        assertNull(index.withAdded(added));
+        assertSame(index, index.withRemoved(Set.of("missing")));
+    }
+
+    @Test
+    void intersect_keepsCommonPositions() {
+        assertArrayEquals(new int[] {3, 9}, NameIndex.intersect(new int[] {1, 3, 9}, new int[] {2, 3, 4, 5, 6, 9, 12}));
+        assertArrayEquals(new int[] {}, NameIndex.intersect(new int[] {20}, new int[] {2, 3}));
+    }
+
+    private static Employee employee(String id, String name) {
+        return new Employee(id, name, 50000, 30, "Engineer", id + "@test.com");
+    }
+
+    private static String randomText(Random random, String alphabet, int maxLength) {
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(maxLength);
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+
+    private static List<String> names(String... names) {
+        return List.of(names);
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmployee_name).collect(Collectors.toList());
+    }
+}
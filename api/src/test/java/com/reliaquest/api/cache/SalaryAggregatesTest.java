@@ -0,0 +1,64 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SalaryAggregatesTest {
+
+    @Test
+    void of_emptyRosterHasZeroMaxAndNoNames() {
+        SalaryAggregates aggregates = SalaryAggregates.of(List.of(), 10);
+        assertEquals(0, aggregates.getMaxSalary());
+        assertEquals(List.of(), aggregates.getTopNames());
+    }
+
+    @Test
+    void of_keepsHighestFirstAndRosterOrderOnTies() {
+        List<Employee> roster = List.of(
+                employee("1", "Alice", 50000),
+                employee("2", "Bob", 90000),
+                employee("3", "Carol", 70000),
+                employee("4", "Dan", 90000),
+                employee("5", "Erin", 10000));
+
+        SalaryAggregates aggregates = SalaryAggregates.of(roster, 3);
+
+        assertEquals(90000, aggregates.getMaxSalary());
+        assertEquals(List.of("Bob", "Dan", "Carol"), aggregates.getTopNames());
+    }
+
+    @Test
+    void withAdded_updatesTopAndIgnoresLowEarnersWhenFull() {
+        SalaryAggregates aggregates =
+                SalaryAggregates.of(List.of(employee("1", "Alice", 50000), employee("2", "Bob", 60000)), 2);
+
+        assertSame(aggregates, aggregates.withAdded(employee("3", "Carol", 40000)));
+
+        SalaryAggregates updated = aggregates.withAdded(employee("4", "Dan", 80000));
+        assertEquals(80000, updated.getMaxSalary());
+        assertEquals(List.of("Dan", "Bob"), updated.getTopNames());
+    }
+
+    @Test
+    void withRemoved_refillsFromRemainingRosterWhenTopEarnerLeaves() {
+        List<Employee> roster = new ArrayList<>(List.of(
+                employee("1", "Alice", 50000), employee("2", "Bob", 90000), employee("3", "Carol", 70000)));
+        SalaryAggregates aggregates = SalaryAggregates.of(roster, 2);
+
+        assertSame(aggregates, aggregates.withRemoved("1", roster));
+
+        roster.remove(1);
+        SalaryAggregates updated = aggregates.withRemoved("2", roster);
+        assertEquals(70000, updated.getMaxSalary());
+        assertEquals(List.of("Carol", "Alice"), updated.getTopNames());
+    }
+
+    private static Employee employee(String id, String name, int salary) {
+        return new Employee(id, name, salary, 30, "Engineer", name.toLowerCase() + "@test.com");
+    }
+}
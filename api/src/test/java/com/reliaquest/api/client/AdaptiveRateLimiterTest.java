@@ -0,0 +1,173 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import com.reliaquest.api.util.TestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class AdaptiveRateLimiterTest {
+
+    private static final Duration CALL_LATENCY = Duration.ofMillis(20);
+
+    private SimpleMeterRegistry meterRegistry;
+    private long now;
+    private List<Long> sleeps;
+    private AdaptiveRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = Duration.ofHours(1).toNanos();
+        sleeps = new ArrayList<>();
+        rateLimiter = new AdaptiveRateLimiter(meterRegistry, () -> now, nanos -> {
+            sleeps.add(nanos);
+            now += nanos;
+        });
+    }
+
+    @Test
+    void acquire_permitsFreelyUntilALimitIsSeen() {
+        for (int i = 0; i < 20; i++) {
+            rateLimiter.acquire(Duration.ZERO);
+            rateLimiter.onAccepted();
+        }
+
+        assertTrue(sleeps.isEmpty());
+        assertEquals(20, count("permitted"));
+    }
+
+    @Test
+    void acquire_failsFastWhenRetryAfterExceedsAllowedWait() {
+        rateLimiter.acquire(Duration.ZERO);
+        rateLimiter.onRateLimited(Duration.ofSeconds(30));
+
+        UpstreamRateLimitedException ex =
+                assertThrows(UpstreamRateLimitedException.class, () -> rateLimiter.acquire(Duration.ofSeconds(2)));
+
+        assertEquals(Duration.ofSeconds(30), ex.getRetryAfter());
+        assertTrue(sleeps.isEmpty());
+        assertEquals(1, count("rejected"));
+    }
+
+    @Test
+    void acquire_waitsOutRetryAfterWithinAllowedWait() {
+        rateLimiter.acquire(Duration.ZERO);
+        rateLimiter.onRateLimited(Duration.ofSeconds(1));
+
+        rateLimiter.acquire(Duration.ofSeconds(2));
+
+        assertEquals(List.of(Duration.ofSeconds(1).toNanos()), sleeps);
+        assertEquals(1, count("delayed"));
+    }
+
+    @Test
+    void onRateLimited_holdsCallsForTheProbeBackoffWhenRetryAfterIsZero() {
+        rateLimiter.acquire(Duration.ZERO);
+
+        assertEquals(Duration.ofSeconds(1), rateLimiter.onRateLimited(Duration.ZERO));
+        assertThrows(UpstreamRateLimitedException.class, () -> rateLimiter.acquire(Duration.ofMillis(500)));
+    }
+
+    @Test
+    void rateLimitedReplay_failsInsteadOfReplayingWhenTheLimiterIsOff() {
+        TestUtils.setField(rateLimiter, "enabled", false);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "0");
+
+        assertThrows(
+                UpstreamRateLimitedException.class,
+                () -> RateLimitInterceptor.onRateLimited(
+                        rateLimiter, headers, System.nanoTime() + Duration.ofHours(1).toNanos()));
+    }
+
+    @Test
+    void rateLimitedReplay_failsOnceTheCallsDeadlineHasPassed() {
+        rateLimiter.acquire(Duration.ZERO);
+
+        assertThrows(
+                UpstreamRateLimitedException.class,
+                () -> RateLimitInterceptor.onRateLimited(rateLimiter, new HttpHeaders(), System.nanoTime()));
+    }
+
+    @Test
+    void acquire_learnsUpstreamLimitAndStopsSpendingCallsOn429s() {
+        TestUtils.setField(rateLimiter, "maxWait", Duration.ofHours(1));
+        Upstream upstream = new Upstream(5, Duration.ofSeconds(45));
+
+        int early429s = 0;
+        for (int i = 0; i < 50; i++) {
+            early429s += call(upstream) ? 0 : 1;
+        }
+        int late429s = 0;
+        for (int i = 0; i < 100; i++) {
+            late429s += call(upstream) ? 0 : 1;
+        }
+
+        assertTrue(early429s > 0);
+        assertEquals(0, late429s);
+        double window = meterRegistry
+                .get("employee.api.client.rate.limiter.estimated.window")
+                .gauge()
+                .value();
+        assertEquals(45, window, 0.5);
+    }
+
+    private boolean call(Upstream upstream) {
+        rateLimiter.acquire(Duration.ofHours(1));
+        boolean accepted = upstream.accept(now);
+        now += CALL_LATENCY.toNanos();
+        if (accepted) {
+            rateLimiter.onAccepted();
+        } else {
+            rateLimiter.onRateLimited(null);
+        }
+        return accepted;
+    }
+
+    private double count(String outcome) {
+        return meterRegistry
+                .get("employee.api.client.rate.limiter.calls")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    /**
+     * Same admission rule as the mock server's request limit interceptor.
+     */
+    private static class Upstream {
+
+        private final int limit;
+        private final long window;
+        private int count;
+        private long lastRequested;
+
+        Upstream(int limit, Duration window) {
+            this.limit = limit;
+            this.window = window.toNanos();
+        }
+
+        boolean accept(long now) {
+            if (count >= limit) {
+                if (now - window < lastRequested) {
+                    return false;
+                }
+                count = 0;
+                lastRequested = now;
+                return true;
+            }
+            count++;
+            lastRequested = now;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.HttpClientProperties;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.util.TestUtils;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncEmployeeApiClientTest {
+
+    private static final String EMPLOYEE = "{\"data\":[{\"id\":\"1\",\"employee_name\":\"John\"}],"
+            + "\"status\":\"Successfully processed request.\"}";
+
+    private MockWebServer server;
+    private AsyncEmployeeApiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .waitDuration(Duration.ofMillis(10))
+                .ignoreExceptions(UpstreamRateLimitedException.class, DeadlineExceededException.class)
+                .build());
+        client = new AsyncEmployeeApiClient(
+                new HttpClientProperties(),
+                new ObjectMapper(),
+                retryRegistry,
+                CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(),
+                new AdaptiveRateLimiter(meterRegistry),
+                meterRegistry);
+        TestUtils.setField(client, "baseUrl", server.url("/api/v1/employee").toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    void getEmployeeById_retriesServerErrorOnTheScheduler() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(json(EMPLOYEE));
+
+        EmployeeResponse response = client.getEmployeeById("1").get(5, TimeUnit.SECONDS);
+
+        assertEquals("John", response.getData().get(0).getEmployee_name());
+        assertEquals(2, server.getRequestCount());
+        RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("/api/v1/employee/1", request.getPath());
+    }
+
+    @Test
+    void deleteEmployee_isNotRetriedAfterAServerError() {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(json("{\"data\":false,\"status\":\"Successfully processed request.\"}"));
+
+        ExecutionException ex = assertThrows(
+                ExecutionException.class, () -> client.deleteEmployee("7", "Eve").get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(EmployeeApiException.class, ex.getCause());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void createEmployee_postsTheUpstreamInputAndUnwrapsTheSingleEmployee() throws Exception {
+        server.enqueue(json("{\"data\":{\"id\":\"7\",\"employee_name\":\"Jane\"},"
+                + "\"status\":\"Successfully processed request.\"}"));
+        Employee request = new Employee(null, "Jane", 1000, 30, "Engineer", null);
+
+        Employee created = client.createEmployee(request).get(5, TimeUnit.SECONDS);
+
+        assertEquals("7", created.getId());
+        RecordedRequest recorded = server.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("POST", recorded.getMethod());
+        assertEquals("/api/v1/employee", recorded.getPath());
+        String body = recorded.getBody().readUtf8();
+        assertTrue(body.contains("\"name\":\"Jane\""), body);
+        assertTrue(body.contains("\"title\":\"Engineer\""), body);
+    }
+
+    @Test
+    void getEmployeeById_translatesExhaustedRetries() {
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setResponseCode(500));
+        }
+
+        ExecutionException ex = assertThrows(
+                ExecutionException.class, () -> client.getEmployeeById("1").get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(EmployeeApiException.class, ex.getCause());
+        assertEquals("Remote API error: 500 INTERNAL_SERVER_ERROR", ex.getCause().getMessage());
+    }
+
+    @Test
+    void getEmployeeById_stopsRetryingWhenTheCapturedDeadlineRunsOut() {
+        server.enqueue(new MockResponse().setResponseCode(500).setHeadersDelay(150, TimeUnit.MILLISECONDS));
+        server.enqueue(json(EMPLOYEE));
+
+        CompletableFuture<EmployeeResponse> future;
+        try (Deadline.Scope ignored = Deadline.bind(Deadline.after(Duration.ofMillis(100)))) {
+            future = client.getEmployeeById("1");
+        }
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DeadlineExceededException.class, ex.getCause());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void rateLimitedCall_isReplayedWhenRetryAfterFitsTheWait() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(429).addHeader("Retry-After", "0"));
+        server.enqueue(json(EMPLOYEE));
+
+        List<Employee> employees = client.getAllEmployees().get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, employees.size());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void getAllEmployees_revalidatesWithTheETagAndReusesTheParsedRosterOn304() throws Exception {
+        server.enqueue(json(EMPLOYEE).addHeader("ETag", "\"a1-7\""));
+        server.enqueue(new MockResponse().setResponseCode(304).addHeader("ETag", "\"a1-7\""));
+
+        List<Employee> first = client.getAllEmployees().get(5, TimeUnit.SECONDS);
+        List<Employee> second = client.getAllEmployees().get(5, TimeUnit.SECONDS);
+
+        assertSame(first, second);
+        assertNull(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"));
+        assertEquals("\"a1-7\"", server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"));
+    }
+
+    @Test
+    void getHighestSalary_isAnsweredUpstreamUntilTheUpstreamHasNoAggregates() throws Exception {
+        server.enqueue(json("{\"data\":120000,\"status\":\"Successfully processed request.\"}"));
+        server.enqueue(new MockResponse().setResponseCode(404));
+
+        assertEquals(Optional.of(120000), client.getHighestSalary().get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.empty(), client.getHighestSalary().get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.empty(), client.getTopEarnerNames(10).get(5, TimeUnit.SECONDS));
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals("/api/v1/employee/stats/highest-salary", server.takeRequest(1, TimeUnit.SECONDS).getPath());
+    }
+
+    @Test
+    void rateLimitedCall_failsFastWithoutRetrying() {
+        server.enqueue(new MockResponse().setResponseCode(429).addHeader("Retry-After", "60"));
+
+        ExecutionException ex = assertThrows(
+                ExecutionException.class, () -> client.getEmployeeById("1").get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(UpstreamRateLimitedException.class, ex.getCause());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().addHeader("Content-Type", "application/json").setBody(body);
+    }
+}
@@ -1,27 +1,58 @@
 package com.reliaquest.api.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.RosterSnapshotExpiredException;
+import com.reliaquest.api.model.DeleteEmployeeRequest;
+import com.reliaquest.api.model.DeleteEmployeeResponse;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBulkCreateRequest;
+import com.reliaquest.api.model.EmployeeLookupRequest;
 import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.model.RosterPage;
+import com.reliaquest.api.model.RosterPageResponse;
+import com.reliaquest.api.model.SalaryResponse;
+import com.reliaquest.api.model.TopEarner;
+import com.reliaquest.api.model.TopEarnersResponse;
 import com.reliaquest.api.util.TestUtils;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 class EmployeeClientTest {
@@ -29,15 +60,26 @@ class EmployeeClientTest {
     private RestTemplate restTemplate;
     private RetryRegistry retryRegistry;
     private CircuitBreakerRegistry circuitBreakerRegistry;
+    private SimpleMeterRegistry meterRegistry;
     private EmployeeApiClient client;
 
     @BeforeEach
     void setUp() {
         restTemplate = Mockito.mock(RestTemplate.class);
-        retryRegistry = RetryRegistry.ofDefaults();
+        retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .ignoreExceptions(DeadlineExceededException.class, RosterSnapshotExpiredException.class)
+                .build());
         circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
-        client = new EmployeeApiClient(restTemplate, retryRegistry, circuitBreakerRegistry);
-        TestUtils.setField(client, "baseUrl", "http://localhost:8081");
+        meterRegistry = new SimpleMeterRegistry();
+        client = new EmployeeApiClient(
+                restTemplate,
+                new ObjectMapper(),
+                retryRegistry,
+                circuitBreakerRegistry,
+                BulkheadRegistry.ofDefaults(),
+                meterRegistry,
+                new FanOutExecutor(new SimpleAsyncTaskExecutor("page-test-")));
+        TestUtils.setField(client, "baseUrl", "http://localhost:8081/api/v1/employee");
     }
 
     @Test
@@ -48,7 +90,7 @@ class EmployeeClientTest {
         emp.setId("1");
         resp.setData(List.of(emp));
         when(restTemplate.exchange(
-                        URI.create("http://localhost:8081/employees/1"),
+                        URI.create("http://localhost:8081/api/v1/employee/1"),
                         HttpMethod.GET,
                         HttpEntity.EMPTY,
                         EmployeeResponse.class))
@@ -58,7 +100,7 @@ class EmployeeClientTest {
         assertEquals("John", result.getData().get(0).getEmployee_name());
         verify(restTemplate, times(2))
                 .exchange(
-                        URI.create("http://localhost:8081/employees/1"),
+                        URI.create("http://localhost:8081/api/v1/employee/1"),
                         HttpMethod.GET,
                         HttpEntity.EMPTY,
                         EmployeeResponse.class);
@@ -74,4 +116,290 @@ class EmployeeClientTest {
                 .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
         assertThrows(com.reliaquest.api.exception.EmployeeApiException.class, () -> client.getEmployeeById("1"));
     }
+
+    @Test
+    void getEmployeeById_isTimedByOutcome() {
+        when(restTemplate.exchange(
+                        any(URI.class),
+                        any(HttpMethod.class),
+                        any(HttpEntity.class),
+                        Mockito.<Class<EmployeeResponse>>any()))
+                .thenReturn(new ResponseEntity<>(new EmployeeResponse(), HttpStatus.OK))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        client.getEmployeeById("1");
+        assertThrows(com.reliaquest.api.exception.EmployeeApiException.class, () -> client.getEmployeeById("2"));
+
+        assertEquals(1, requests("success").count());
+        assertEquals(1, requests("client_error").count());
+    }
+
+    @Test
+    void getEmployeeById_skipsRetryThatWouldOutliveTheDeadline() {
+        when(restTemplate.exchange(
+                        any(URI.class),
+                        any(HttpMethod.class),
+                        any(HttpEntity.class),
+                        Mockito.<Class<EmployeeResponse>>any()))
+                .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+
+        // The default retry waits 500ms between attempts, more than this deadline has left.
+        try (Deadline.Scope ignored = Deadline.bind(Deadline.after(Duration.ofMillis(200)))) {
+            assertThrows(DeadlineExceededException.class, () -> client.getEmployeeById("1"));
+        }
+        verify(restTemplate, times(1))
+                .exchange(
+                        any(URI.class),
+                        any(HttpMethod.class),
+                        any(HttpEntity.class),
+                        Mockito.<Class<EmployeeResponse>>any());
+    }
+
+    @Test
+    void getEmployeeById_failsWithoutCallingUpstreamOnceTheDeadlineHasPassed() {
+        try (Deadline.Scope ignored = Deadline.bind(Deadline.after(Duration.ZERO))) {
+            assertThrows(DeadlineExceededException.class, () -> client.getEmployeeById("1"));
+        }
+        verify(restTemplate, times(0))
+                .exchange(
+                        any(URI.class),
+                        any(HttpMethod.class),
+                        any(HttpEntity.class),
+                        Mockito.<Class<EmployeeResponse>>any());
+    }
+
+    @Test
+    void getAllEmployees_sendsIfNoneMatchAndReusesTheRosterOn304() {
+        EmployeeResponse resp = new EmployeeResponse();
+        resp.setData(List.of(new Employee("1", "John", 50000, 30, "Dev", "john@test.com")));
+        HttpHeaders tagged = new HttpHeaders();
+        tagged.setETag("\"a1-7\"");
+        ArgumentCaptor<HttpEntity<?>> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        when(restTemplate.exchange(
+                        any(URI.class),
+                        any(HttpMethod.class),
+                        requests.capture(),
+                        Mockito.<Class<EmployeeResponse>>any()))
+                .thenReturn(new ResponseEntity<>(resp, tagged, HttpStatus.OK))
+                .thenReturn(new ResponseEntity<>(tagged, HttpStatus.NOT_MODIFIED));
+
+        List<Employee> first = client.getAllEmployees();
+        List<Employee> second = client.getAllEmployees();
+
+        assertSame(first, second);
+        assertEquals(List.of(), requests.getAllValues().get(0).getHeaders().getIfNoneMatch());
+        assertEquals(List.of("\"a1-7\""), requests.getAllValues().get(1).getHeaders().getIfNoneMatch());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("employee.api.client.roster.fetches")
+                        .tag("result", "not_modified")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    void getAllEmployees_fetchesPagesInParallelAndRetriesOnlyTheFailedPage() {
+        TestUtils.setField(client, "pageSize", 2);
+        List<Employee> roster = roster(5);
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        when(restTemplate.exchange(
+                        any(URI.class),
+                        any(HttpMethod.class),
+                        any(HttpEntity.class),
+                        Mockito.<Class<RosterPageResponse>>any()))
+                .thenAnswer(invocation -> {
+                    String query = invocation.<URI>getArgument(0).getQuery();
+                    int attempt = calls.computeIfAbsent(query, ignored -> new AtomicInteger())
+                            .incrementAndGet();
+                    if (query.endsWith("cursor=s1-3:2") && attempt == 1) {
+                        throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+                    }
+                    return new ResponseEntity<>(page("s1-3", query, roster), HttpStatus.OK);
+                });
+
+        List<Employee> employees = client.getAllEmployees();
+
+        assertEquals(roster, employees);
+        assertEquals(Map.of("limit=2", 1, "limit=2&cursor=s1-3:2", 2, "limit=2&cursor=s1-3:4", 1), counts(calls));
+        assertEquals("s1-3", client.cursorOf(employees));
+    }
+
+    @Test
+    void getAllEmployees_startsAPagedFetchOverWhenTheSnapshotExpires() {
+        TestUtils.setField(client, "pageSize", 2);
+        List<Employee> roster = roster(3);
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        when(restTemplate.exchange(
+                        any(URI.class),
+                        any(HttpMethod.class),
+                        any(HttpEntity.class),
+                        Mockito.<Class<RosterPageResponse>>any()))
+                .thenAnswer(invocation -> {
+                    String query = invocation.<URI>getArgument(0).getQuery();
+                    int attempt = calls.computeIfAbsent(query, ignored -> new AtomicInteger())
+                            .incrementAndGet();
+                    String snapshot = "s1-" + calls.get("limit=2").get();
+                    if (query.endsWith("cursor=s1-1:2")) {
+                        throw HttpClientErrorException.create(HttpStatus.GONE, "Gone", HttpHeaders.EMPTY, null, null);
+                    }
+                    return new ResponseEntity<>(page(snapshot, query, roster), HttpStatus.OK);
+                });
+
+        List<Employee> employees = client.getAllEmployees();
+
+        assertEquals(roster, employees);
+        assertEquals(Map.of("limit=2", 2, "limit=2&cursor=s1-1:2", 1, "limit=2&cursor=s1-2:2", 1), counts(calls));
+    }
+
+    @Test
+    void aggregates_areReadFromUpstreamUntilItAnswers404() {
+        when(restTemplate.exchange(
+                        URI.create("http://localhost:8081/api/v1/employee/stats/highest-salary"),
+                        HttpMethod.GET,
+                        HttpEntity.EMPTY,
+                        SalaryResponse.class))
+                .thenReturn(new ResponseEntity<>(new SalaryResponse(120000, "ok"), HttpStatus.OK))
+                .thenReturn(new ResponseEntity<>(new SalaryResponse(null, "ok"), HttpStatus.OK));
+        when(restTemplate.exchange(
+                        URI.create("http://localhost:8081/api/v1/employee/stats/top-earners?limit=10"),
+                        HttpMethod.GET,
+                        HttpEntity.EMPTY,
+                        TopEarnersResponse.class))
+                .thenReturn(new ResponseEntity<>(
+                        new TopEarnersResponse(List.of(new TopEarner("2", "Bob", 120000)), "ok"), HttpStatus.OK))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, null));
+
+        assertEquals(Optional.of(120000), client.getHighestSalary());
+        assertEquals(Optional.of(0), client.getHighestSalary());
+        assertEquals(Optional.of(List.of("Bob")), client.getTopEarnerNames(10));
+        assertEquals(Optional.empty(), client.getTopEarnerNames(10));
+        assertEquals(Optional.empty(), client.getHighestSalary());
+
+        verify(restTemplate, times(2))
+                .exchange(
+                        any(URI.class), any(HttpMethod.class), any(HttpEntity.class), Mockito.eq(SalaryResponse.class));
+        verify(restTemplate, times(2))
+                .exchange(
+                        any(URI.class),
+                        any(HttpMethod.class),
+                        any(HttpEntity.class),
+                        Mockito.eq(TopEarnersResponse.class));
+    }
+
+    @Test
+    void getEmployeesByIds_postsOneLookupUntilTheUpstreamTurnsOutNotToHaveIt() {
+        List<Employee> found = roster(2);
+        when(restTemplate.postForEntity(
+                        URI.create("http://localhost:8081/api/v1/employee/lookup"),
+                        new EmployeeLookupRequest(List.of("0", "1", "2")),
+                        EmployeeResponse.class))
+                .thenReturn(new ResponseEntity<>(new EmployeeResponse(found, "ok"), HttpStatus.OK))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.METHOD_NOT_ALLOWED, "Method Not Allowed", HttpHeaders.EMPTY, null, null));
+
+        assertEquals(Optional.of(found), client.getEmployeesByIds(List.of("0", "1", "2")));
+        assertEquals(Optional.empty(), client.getEmployeesByIds(List.of("0", "1", "2")));
+        assertEquals(Optional.empty(), client.getEmployeesByIds(List.of("0", "1", "2")));
+
+        verify(restTemplate, times(2)).postForEntity(any(URI.class), any(), Mockito.eq(EmployeeResponse.class));
+    }
+
+    @Test
+    void createEmployees_postsTheUpstreamCreateBodiesInOneRequest() {
+        List<Employee> requested = roster(2);
+        List<Employee> created = roster(2);
+        when(restTemplate.postForEntity(
+                        URI.create("http://localhost:8081/api/v1/employee/bulk"),
+                        new EmployeeBulkCreateRequest(requested.stream()
+                                .map(EmployeeApiClient::createBody)
+                                .toList()),
+                        EmployeeResponse.class))
+                .thenReturn(new ResponseEntity<>(new EmployeeResponse(created, "ok"), HttpStatus.OK))
+                .thenReturn(new ResponseEntity<>(new EmployeeResponse(created.subList(0, 1), "ok"), HttpStatus.OK));
+
+        assertEquals(Optional.of(created), client.createEmployees(requested));
+        assertThrows(com.reliaquest.api.exception.EmployeeApiException.class, () -> client.createEmployees(requested));
+    }
+
+    @Test
+    void createEmployees_isNotRetriedAfterAServerError() {
+        when(restTemplate.postForEntity(any(URI.class), any(), Mockito.eq(EmployeeResponse.class)))
+                .thenThrow(HttpServerErrorException.create(
+                        HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", HttpHeaders.EMPTY, null, null));
+
+        assertThrows(com.reliaquest.api.exception.EmployeeApiException.class, () -> client.createEmployees(roster(2)));
+
+        verify(restTemplate, times(1)).postForEntity(any(URI.class), any(), Mockito.eq(EmployeeResponse.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteEmployee_sendsOneDeleteWithTheNameAndIdToTheCollection() {
+        ArgumentCaptor<HttpEntity<DeleteEmployeeRequest>> body = ArgumentCaptor.forClass(HttpEntity.class);
+        when(restTemplate.exchange(
+                        Mockito.eq(URI.create("http://localhost:8081/api/v1/employee")),
+                        Mockito.eq(HttpMethod.DELETE),
+                        body.capture(),
+                        Mockito.eq(DeleteEmployeeResponse.class)))
+                .thenReturn(new ResponseEntity<>(new DeleteEmployeeResponse(true, "ok"), HttpStatus.OK))
+                .thenReturn(new ResponseEntity<>(new DeleteEmployeeResponse(false, "ok"), HttpStatus.OK));
+
+        assertTrue(client.deleteEmployee("7", "Eve"));
+        assertFalse(client.deleteEmployee("7", "Eve"));
+        assertEquals(new DeleteEmployeeRequest("Eve", "7"), body.getValue().getBody());
+    }
+
+    @Test
+    void deleteEmployee_isNotRetriedWhenTheResponseIsLost() {
+        when(restTemplate.exchange(
+                        any(URI.class),
+                        Mockito.eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        Mockito.eq(DeleteEmployeeResponse.class)))
+                .thenThrow(new ResourceAccessException("Read timed out"))
+                .thenReturn(new ResponseEntity<>(new DeleteEmployeeResponse(false, "ok"), HttpStatus.OK));
+
+        assertThrows(com.reliaquest.api.exception.EmployeeApiException.class, () -> client.deleteEmployee("7", "Eve"));
+
+        verify(restTemplate, times(1))
+                .exchange(
+                        any(URI.class),
+                        Mockito.eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        Mockito.eq(DeleteEmployeeResponse.class));
+    }
+
+    private static List<Employee> roster(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> new Employee(String.valueOf(i), "Employee " + i, 50000 + i, 30, "Dev", i + "@test.com"))
+                .toList();
+    }
+
+    /**
+     * Serves the page a {@code limit=..&cursor=<snapshot>:<offset>} query asks for, the way the upstream cuts them.
+     */
+    private static RosterPageResponse page(String snapshot, String query, List<Employee> roster) {
+        int limit = Integer.parseInt(query.replaceAll("limit=(\\d+).*", "$1"));
+        int offset = query.contains(":") ? Integer.parseInt(query.substring(query.lastIndexOf(':') + 1)) : 0;
+        int to = Math.min(offset + limit, roster.size());
+        String next = to < roster.size() ? RosterPage.cursor(snapshot, to) : null;
+        return new RosterPageResponse(
+                new RosterPage(snapshot, offset, roster.size(), roster.subList(offset, to), next), "ok");
+    }
+
+    private static Map<String, Integer> counts(Map<String, AtomicInteger> calls) {
+        Map<String, Integer> counts = new HashMap<>();
+        calls.forEach((query, count) -> counts.put(query, count.get()));
+        return counts;
+    }
+
+    private Timer requests(String outcome) {
+        return meterRegistry
+                .get("employee.api.client.requests")
+                .tag("operation", "getEmployeeById")
+                .tag("outcome", outcome)
+                .timer();
+    }
 }
@@ -0,0 +1,49 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RosterStreamReaderTest {
+
+    private final RosterStreamReader reader = new RosterStreamReader(new ObjectMapper());
+
+    @Test
+    void read_passesEachEmployeeToTheConsumerAndSkipsOtherFields() throws IOException {
+        String body = "{\"meta\":{\"page\":[1,2]},\"data\":["
+                + "{\"id\":\"1\",\"employee_name\":\"Alice\",\"employee_salary\":50000},"
+                + "{\"id\":\"2\",\"employee_name\":\"Bob\",\"employee_salary\":70000}],"
+                + "\"status\":\"Successfully processed request.\"}";
+        List<Employee> seen = new ArrayList<>();
+
+        long count = reader.read(stream(body), seen::add);
+
+        assertEquals(2, count);
+        assertEquals("Alice", seen.get(0).getEmployee_name());
+        assertEquals(70000, seen.get(1).getEmployee_salary());
+    }
+
+    @Test
+    void read_toleratesAMissingOrNullRoster() throws IOException {
+        assertEquals(0, reader.read(stream("{\"data\":null,\"status\":\"ok\"}"), employee -> {}));
+        assertEquals(0, reader.read(stream("{\"status\":\"ok\"}"), employee -> {}));
+    }
+
+    @Test
+    void read_rejectsABodyThatIsNotAnEnvelope() {
+        assertThrows(EmployeeApiException.class, () -> reader.read(stream("[]"), employee -> {}));
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
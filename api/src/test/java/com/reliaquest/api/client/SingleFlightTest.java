@@ -0,0 +1,198 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.EmployeeApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 4;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, Object> singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("getAllEmployees", meterRegistry);
+        executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_concurrentCallersShareOneCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object shared = new Object();
+
+        List<CompletableFuture<Object>> results = runConcurrently(() -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return shared;
+        }, started);
+        release.countDown();
+
+        for (CompletableFuture<Object> result : results) {
+            assertSame(shared, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(FOLLOWERS, followerCount());
+        assertEquals(1, meterRegistry.get("employee.api.client.coalescing.fan.in").summary().count());
+        assertEquals(1.0 + FOLLOWERS, meterRegistry.get("employee.api.client.coalescing.fan.in").summary().max());
+    }
+
+    @Test
+    void execute_concurrentCallersShareTheFailure() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        EmployeeApiException failure = new EmployeeApiException("Remote API call failed");
+
+        List<CompletableFuture<Object>> results = runConcurrently(() -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        }, started);
+        release.countDown();
+
+        for (CompletableFuture<Object> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, ex.getCause());
+        }
+    }
+
+    @Test
+    void execute_followerWaitsNoLongerThanItsOwnDeadline() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("all", () -> {
+                    started.countDown();
+                    await(release);
+                    return new Object();
+                }),
+                executor);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        try (Deadline.Scope ignored = Deadline.bind(Deadline.after(Duration.ofMillis(50)))) {
+            assertThrows(DeadlineExceededException.class, () -> singleFlight.execute("all", Object::new));
+        }
+        release.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void execute_followerRunsTheCallAgainWhenOnlyTheLeadersDeadlineRanOut() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DeadlineExceededException leaderOutOfTime = new DeadlineExceededException("Deadline expired");
+        Object fresh = new Object();
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("all", () -> {
+                    started.countDown();
+                    await(release);
+                    throw leaderOutOfTime;
+                }),
+                executor);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Object> follower =
+                CompletableFuture.supplyAsync(() -> singleFlight.execute("all", () -> fresh), executor);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (followerCount() < 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertSame(leaderOutOfTime, ex.getCause());
+        assertSame(fresh, follower.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_sequentialCallsAreNotCoalesced() {
+        AtomicInteger calls = new AtomicInteger();
+        singleFlight.execute("all", calls::incrementAndGet);
+        singleFlight.execute("all", calls::incrementAndGet);
+
+        assertEquals(2, calls.get());
+        assertEquals(0, followerCount());
+    }
+
+    @Test
+    void executeAsync_followersShareThePendingFuture() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<Object> upstream = new CompletableFuture<>();
+        Object shared = new Object();
+
+        CompletableFuture<Object> leader = singleFlight.executeAsync("all", () -> {
+            calls.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<Object> follower = singleFlight.executeAsync("all", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(new Object());
+        });
+        upstream.complete(shared);
+
+        assertSame(shared, leader.get(5, TimeUnit.SECONDS));
+        assertSame(shared, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(1, followerCount());
+    }
+
+    private List<CompletableFuture<Object>> runConcurrently(
+            Supplier<Object> call, CountDownLatch started) throws InterruptedException {
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+        results.add(CompletableFuture.supplyAsync(() -> singleFlight.execute("all", call), executor));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < FOLLOWERS; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> singleFlight.execute("all", call), executor));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (followerCount() < FOLLOWERS && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        return results;
+    }
+
+    private double followerCount() {
+        return meterRegistry
+                .get("employee.api.client.coalescing.requests")
+                .tag("role", "follower")
+                .counter()
+                .count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.client.Deadline;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class DeadlineFilterTest {
+
+    private DeadlineProperties properties;
+    private DeadlineFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DeadlineProperties();
+        properties.getEndpoints().put("/api/v1/employee/search/**", Duration.ofSeconds(2));
+        filter = new DeadlineFilter(properties);
+    }
+
+    @Test
+    void timeoutFor_usesTheDefaultWhenNothingElseApplies() {
+        assertEquals(Duration.ofSeconds(5), filter.timeoutFor(request("/api/v1/employee", null)));
+    }
+
+    @Test
+    void timeoutFor_usesTheFirstMatchingEndpoint() {
+        assertEquals(Duration.ofSeconds(2), filter.timeoutFor(request("/api/v1/employee/search/jo", null)));
+    }
+
+    @Test
+    void timeoutFor_prefersTheHeaderAndCapsIt() {
+        assertEquals(Duration.ofMillis(750), filter.timeoutFor(request("/api/v1/employee/search/jo", "750")));
+        assertEquals(Duration.ofMillis(1500), filter.timeoutFor(request("/api/v1/employee", "1500ms")));
+        assertEquals(Duration.ofSeconds(30), filter.timeoutFor(request("/api/v1/employee", "5m")));
+        assertEquals(Duration.ofSeconds(5), filter.timeoutFor(request("/api/v1/employee", "soon")));
+    }
+
+    @Test
+    void doFilter_bindsTheDeadlineForTheChainOnly() throws Exception {
+        AtomicReference<Deadline> seen = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+                seen.set(Deadline.current());
+            }
+        };
+
+        filter.doFilter(request("/api/v1/employee", "1000"), new MockHttpServletResponse(), chain);
+
+        assertTrue(seen.get().isBounded());
+        assertTrue(seen.get().remaining().compareTo(Duration.ofSeconds(1)) <= 0);
+        assertFalse(Deadline.current().isBounded());
+    }
+
+    private MockHttpServletRequest request(String path, String timeout) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (timeout != null) {
+            request.addHeader(properties.getHeader(), timeout);
+        }
+        return request;
+    }
+}
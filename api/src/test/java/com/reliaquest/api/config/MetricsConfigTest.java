@@ -0,0 +1,60 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MetricsConfigTest {
+
+    @Test
+    void resilienceMetrics_countRetriesAndTransitionsForInstancesCreatedLater() {
+        RetryRegistry retryRegistry = RetryRegistry.of(
+                RetryConfig.custom().waitDuration(Duration.ofMillis(1)).build());
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new MetricsConfig()
+                .resilienceMetrics(retryRegistry, circuitBreakerRegistry, BulkheadRegistry.ofDefaults())
+                .bindTo(meterRegistry);
+
+        AtomicInteger calls = new AtomicInteger();
+        Retry.decorateSupplier(retryRegistry.retry("employeeApiRetry"), () -> {
+                    if (calls.incrementAndGet() == 1) {
+                        throw new IllegalStateException("first attempt fails");
+                    }
+                    return "ok";
+                })
+                .get();
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("employeeApiCircuitBreaker");
+        circuitBreaker.transitionToOpenState();
+
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("employee.api.client.retries")
+                        .tag("name", "employeeApiRetry")
+                        .counter()
+                        .count());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("employee.api.client.circuit.breaker.transitions")
+                        .tag("from", "closed")
+                        .tag("to", "open")
+                        .counter()
+                        .count());
+        assertNotNull(meterRegistry
+                .get("resilience4j.circuitbreaker.state")
+                .tag("name", "employeeApiCircuitBreaker")
+                .gauges());
+    }
+}
@@ -0,0 +1,159 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.Deadline;
+import com.reliaquest.api.client.RateLimitInterceptor;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class RestClientConfigTest {
+
+    private static final String BODY = "{\"data\":[],\"status\":\"Successfully processed request.\"}";
+
+    private MockWebServer server;
+    private HttpClientProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        properties = new HttpClientProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void pooledClient_negotiatesGzipAndPublishesPoolMetrics() throws Exception {
+        server.enqueue(gzipped(BODY));
+
+        String body = restTemplate().getForObject(server.url("/api/v1/employee").uri(), String.class);
+
+        assertEquals(BODY, body);
+        RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+        assertNotNull(request);
+        assertTrue(request.getHeader("Accept-Encoding").contains("gzip"));
+        assertEquals(
+                properties.getMaxConnections(),
+                meterRegistry.get("employee.api.http.pool.max").gauge().value());
+        assertNotNull(meterRegistry
+                .get("employee.api.http.pool.connections")
+                .tag("state", "leased")
+                .gauge());
+    }
+
+    @Test
+    void pooledClient_failsWhenUpstreamExceedsReadTimeout() {
+        properties.setReadTimeout(Duration.ofMillis(200));
+        server.enqueue(new MockResponse().setBody(BODY).setHeadersDelay(2, TimeUnit.SECONDS));
+
+        RestTemplate restTemplate = restTemplate();
+        assertThrows(
+                ResourceAccessException.class,
+                () -> restTemplate.getForObject(server.url("/api/v1/employee").uri(), String.class));
+    }
+
+    @Test
+    void pooledClient_appliesRouteReadTimeoutOverride() {
+        HttpClientProperties.Route route = new HttpClientProperties.Route();
+        route.setReadTimeout(Duration.ofMillis(200));
+        properties.getRoutes().put(server.getHostName() + ":" + server.getPort(), route);
+        server.enqueue(new MockResponse().setBody(BODY).setHeadersDelay(2, TimeUnit.SECONDS));
+
+        RestTemplate restTemplate = restTemplate();
+        assertThrows(
+                ResourceAccessException.class,
+                () -> restTemplate.getForObject(server.url("/api/v1/employee").uri(), String.class));
+    }
+
+    @Test
+    void routeAwareFactory_neverCapsATimeoutDownToZero() {
+        Duration readTimeout = Duration.ofSeconds(5);
+
+        assertEquals(
+                Duration.ofMillis(1),
+                RestClientConfig.RouteAwareRequestFactory.cap(Deadline.after(Duration.ofNanos(500_000)), readTimeout));
+        assertEquals(readTimeout, RestClientConfig.RouteAwareRequestFactory.cap(Deadline.none(), readTimeout));
+    }
+
+    @Test
+    void http2Client_decompressesGzipThroughInterceptor() {
+        properties.setVersion(HttpClientProperties.Version.HTTP_2);
+        server.enqueue(gzipped(BODY));
+
+        String body = restTemplate().getForObject(server.url("/api/v1/employee").uri(), String.class);
+
+        assertEquals(BODY, body);
+    }
+
+    @Test
+    void rateLimitedCall_isReplayedWhenRetryAfterFitsTheWait() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(429).addHeader("Retry-After", "0"));
+        server.enqueue(new MockResponse().setBody(BODY));
+
+        String body = restTemplate().getForObject(server.url("/api/v1/employee").uri(), String.class);
+
+        assertEquals(BODY, body);
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void rateLimitedCall_failsFastWhenRetryAfterExceedsTheWait() {
+        server.enqueue(new MockResponse().setResponseCode(429).addHeader("Retry-After", "60"));
+
+        RestTemplate restTemplate = restTemplate();
+        UpstreamRateLimitedException ex = assertThrows(
+                UpstreamRateLimitedException.class,
+                () -> restTemplate.getForObject(server.url("/api/v1/employee").uri(), String.class));
+
+        assertTrue(ex.getRetryAfter().compareTo(Duration.ofSeconds(55)) > 0);
+        assertEquals(1, server.getRequestCount());
+    }
+
+    private RestTemplate restTemplate() {
+        RestClientConfig config = new RestClientConfig();
+        return config.restTemplate(
+                config.employeeApiRequestFactory(properties, meterRegistry),
+                properties,
+                new RateLimitInterceptor(new AdaptiveRateLimiter(meterRegistry)));
+    }
+
+    private static MockResponse gzipped(String body) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+                gzip.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+            return new MockResponse()
+                    .addHeader("Content-Type", "application/json")
+                    .addHeader("Content-Encoding", "gzip")
+                    .setBody(new Buffer().write(bytes.toByteArray()));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.AsyncEmployeeService;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(EmployeeControllerImpl.class)
+class EmployeeControllerImplAsyncTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeService service;
+
+    @MockBean
+    private AsyncEmployeeService asyncService;
+
+    @Test
+    void getEmployeeById_completesAfterTheUpstreamCall() throws Exception {
+        CompletableFuture<Employee> pending = new CompletableFuture<>();
+        when(asyncService.getEmployeeById("123")).thenReturn(pending);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/123"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        pending.complete(new Employee("123", "Alice", 60000, 30, "Engineer", "alice@test.com"));
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employee_name").value("Alice"));
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void getEmployeeById_failureGoesThroughExceptionHandlers() throws Exception {
+        when(asyncService.getEmployeeById("999"))
+                .thenReturn(CompletableFuture.failedFuture(new EmployeeNotFoundException("Not found")));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/999"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteEmployeeById_setsDeletedHeader() throws Exception {
+        when(asyncService.deleteEmployeeById("123")).thenReturn(CompletableFuture.completedFuture("Alice"));
+
+        MvcResult result = mockMvc.perform(delete("/api/v1/employee/123"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Deleted-Employee", "Alice"));
+    }
+}
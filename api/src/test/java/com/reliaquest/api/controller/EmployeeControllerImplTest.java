@@ -7,12 +7,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.EmployeeApiException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,14 +42,30 @@ class EmployeeControllerImplTest {
 
     @Test
     void testGetAllEmployees() throws Exception {
-        when(service.getAllEmployees())
-                .thenReturn(Arrays.asList(new Employee("1", "John", 50000, 28, "Dev", "john@test.com")));
+        List<Employee> employees = Arrays.asList(new Employee("1", "John", 50000, 28, "Dev", "john@test.com"));
+        Mockito.doAnswer(invocation -> {
+                    employees.forEach(invocation.<Consumer<Employee>>getArgument(0));
+                    return null;
+                })
+                .when(service)
+                .streamAllEmployees(any());
 
         mockMvc.perform(get("/api/v1/employee"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].employee_name").value("John"));
     }
 
+    @Test
+    void getAllEmployees_upstreamFailureBeforeTheFirstFlushIsAnErrorResponse() throws Exception {
+        Mockito.doThrow(new EmployeeApiException("Remote API call failed"))
+                .when(service)
+                .streamAllEmployees(any());
+
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.error").value("Remote API call failed"));
+    }
+
     @Test
     void testGetEmployeeById_Found() throws Exception {
         Employee emp = new Employee("123", "Alice", 60000, 30, "Engineer", "alice@test.com");
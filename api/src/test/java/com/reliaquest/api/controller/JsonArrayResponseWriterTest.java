@@ -0,0 +1,71 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class JsonArrayResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void write_producesTheSameBytesAsSerializingTheList() throws IOException {
+        List<Employee> employees = roster(50);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        long written = writer(DataSize.ofBytes(256)).<Employee>write(body, employees::forEach);
+
+        assertEquals(50, written);
+        assertEquals(objectMapper.writeValueAsString(employees), body.toString());
+    }
+
+    @Test
+    void write_emptySourceIsAnEmptyArray() throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        writer(DataSize.ofKilobytes(8)).write(body, consumer -> {});
+
+        assertEquals("[]", body.toString());
+    }
+
+    @Test
+    void write_flushesOnceTheThresholdHasBeenWritten() throws IOException {
+        FlushCountingStream body = new FlushCountingStream();
+
+        writer(DataSize.ofBytes(512)).<Employee>write(body, roster(200)::forEach);
+
+        // Each employee serializes to roughly 150 bytes, so about one flush per three or four of them.
+        assertTrue(body.flushes > 40, "flushes: " + body.flushes);
+        assertTrue(body.flushes < 100, "flushes: " + body.flushes);
+    }
+
+    private JsonArrayResponseWriter writer(DataSize flushThreshold) {
+        return new JsonArrayResponseWriter(objectMapper.writerFor(Employee.class), flushThreshold);
+    }
+
+    private static List<Employee> roster(int size) {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new Employee(
+                    "id-" + i, "Employee " + i, 40000 + i, 30, "Engineer", "employee" + i + "@test.com"));
+        }
+        return employees;
+    }
+
+    private static final class FlushCountingStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
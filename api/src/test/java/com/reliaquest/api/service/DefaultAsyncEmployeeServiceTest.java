@@ -0,0 +1,80 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.client.AsyncEmployeeApiClient;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.util.TestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultAsyncEmployeeServiceTest {
+
+    private final List<Employee> roster = Arrays.asList(
+            new Employee("1", "Alice", 50000, 30, "Engineer", "alice@test.com"),
+            new Employee("2", "Bob", 120000, 35, "Manager", "bob@test.com"),
+            new Employee("3", "Malice", 70000, 40, "Lead", "malice@test.com"));
+
+    @Mock
+    private AsyncEmployeeApiClient client;
+
+    @Mock
+    private EmployeeApiClient blockingClient;
+
+    private EmployeeRosterCache cache;
+    private DefaultAsyncEmployeeService service;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeRosterCache(blockingClient, Runnable::run, new SimpleMeterRegistry());
+        service = new DefaultAsyncEmployeeService(client, cache);
+    }
+
+    @Test
+    void readsFromTheRosterCacheWhenItIsEnabled() {
+        when(blockingClient.getAllEmployees()).thenReturn(roster);
+
+        assertEquals(roster, service.getAllEmployees().join());
+        assertEquals(120000, service.getHighestSalaryOfEmployees().join());
+        assertEquals(List.of(roster.get(0), roster.get(2)), service.getEmployeesByNameSearch("ALI").join());
+        verifyNoInteractions(client);
+    }
+
+    @Test
+    void readsFromUpstreamAndFoldsSalariesWhenTheCacheIsDisabled() {
+        TestUtils.setField(cache, "enabled", false);
+        when(client.getAllEmployees()).thenReturn(CompletableFuture.completedFuture(roster));
+        when(client.getHighestSalary()).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(client.getTopEarnerNames(10)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        assertEquals(roster, service.getAllEmployees().join());
+        assertEquals(List.of(roster.get(0), roster.get(2)), service.getEmployeesByNameSearch("ALI").join());
+        assertEquals(120000, service.getHighestSalaryOfEmployees().join());
+        assertEquals(List.of("Bob", "Malice", "Alice"), service.getTopTenHighestEarningEmployeeNames().join());
+        verifyNoInteractions(blockingClient);
+    }
+
+    @Test
+    void pushesSalaryAggregatesUpstreamWhenTheCacheIsDisabled() {
+        TestUtils.setField(cache, "enabled", false);
+        when(client.getHighestSalary()).thenReturn(CompletableFuture.completedFuture(Optional.of(120000)));
+        when(client.getTopEarnerNames(10)).thenReturn(CompletableFuture.completedFuture(Optional.of(List.of("Bob"))));
+
+        assertEquals(120000, service.getHighestSalaryOfEmployees().join());
+        assertEquals(List.of("Bob"), service.getTopTenHighestEarningEmployeeNames().join());
+        verify(client, never()).getAllEmployees();
+        verifyNoInteractions(blockingClient);
+    }
+}
@@ -0,0 +1,166 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.FanOutExecutor;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.InvalidEmployeeRequestException;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeCreateResult;
+import com.reliaquest.api.model.EmployeeLookupResult;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.util.TestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultEmployeeBatchServiceTest {
+
+    private final Employee alice = employee("Alice");
+    private final Employee bob = employee("Bob");
+    private final Employee carol = employee("Carol");
+
+    @Mock
+    private EmployeeApiClient client;
+
+    private EmployeeRosterCache cache;
+    private DefaultEmployeeBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry());
+        service = new DefaultEmployeeBatchService(
+                client,
+                cache,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new FanOutExecutor(new SimpleAsyncTaskExecutor("batch-test-")));
+    }
+
+    @Test
+    void resolvesFromTheCacheAndLooksTheMissesUpInOneUpstreamCall() {
+        when(client.getAllEmployees()).thenReturn(List.of(alice));
+        String unknown = UUID.randomUUID().toString();
+        when(client.getEmployeesByIds(List.of(bob.getId(), unknown))).thenReturn(Optional.of(List.of(bob)));
+
+        List<EmployeeLookupResult> results =
+                service.getEmployeesByIds(List.of(alice.getId(), "not-an-id", bob.getId(), unknown, bob.getId()));
+
+        assertEquals(
+                List.of(
+                        EmployeeLookupResult.found(alice.getId(), alice),
+                        EmployeeLookupResult.failed("not-an-id", 400, "Not an employee id"),
+                        EmployeeLookupResult.found(bob.getId(), bob),
+                        EmployeeLookupResult.failed(unknown, 404, "Employee not found with ID: " + unknown)),
+                results);
+        verify(client, never()).getEmployeeById(any());
+    }
+
+    @Test
+    void fetchesEachIdOnItsOwnWhenTheUpstreamHasNoLookupAndReportsFailuresPerId() {
+        TestUtils.setField(cache, "enabled", false);
+        TestUtils.setField(service, "chunkSize", 2);
+        TestUtils.setField(service, "concurrency", 2);
+        when(client.getEmployeeById(alice.getId())).thenReturn(new EmployeeResponse(List.of(alice), "ok"));
+        HttpClientErrorException notFound =
+                HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, null);
+        when(client.getEmployeeById(bob.getId()))
+                .thenThrow(new EmployeeApiException("Remote API error: 404 NOT_FOUND", notFound));
+        when(client.getEmployeeById(carol.getId())).thenThrow(new DeadlineExceededException("out of time"));
+
+        List<EmployeeLookupResult> results =
+                service.getEmployeesByIds(List.of(alice.getId(), bob.getId(), carol.getId()));
+
+        assertEquals(List.of(200, 404, 504), results.stream().map(EmployeeLookupResult::getStatus).toList());
+        assertEquals(alice, results.get(0).getEmployee());
+        verify(client).getEmployeesByIds(List.of(alice.getId(), bob.getId()));
+        verify(client).getEmployeesByIds(List.of(carol.getId()));
+        verify(client, never()).getAllEmployees();
+    }
+
+    @Test
+    void rejectsAnEmptyOrOversizedBatch() {
+        TestUtils.setField(service, "maxIds", 2);
+
+        assertThrows(InvalidEmployeeRequestException.class, () -> service.getEmployeesByIds(List.of()));
+        assertThrows(
+                InvalidEmployeeRequestException.class,
+                () -> service.getEmployeesByIds(List.of(alice.getId(), bob.getId(), carol.getId())));
+    }
+
+    @Test
+    void createEmployees_validatesUpFrontAndReportsEachChunkOnItsOwn() {
+        when(client.getAllEmployees()).thenReturn(List.of(alice));
+        cache.snapshot();
+        TestUtils.setField(service, "createChunkSize", 2);
+        when(client.createEmployees(any())).thenAnswer(invocation -> {
+            List<Employee> chunk = invocation.getArgument(0);
+            if (chunk.get(0).getEmployee_name().equals("Erin")) {
+                throw new EmployeeApiException("Remote API error: 503 SERVICE_UNAVAILABLE");
+            }
+            return Optional.of(chunk.stream().map(DefaultEmployeeBatchServiceTest::created).toList());
+        });
+
+        List<EmployeeCreateResult> results = service.createEmployees(
+                List.of(request("Bob", 30), request("Carl", 10), request("Dan", 40), request("Erin", 50)));
+
+        assertEquals(List.of(201, 400, 201, 500), results.stream().map(EmployeeCreateResult::getStatus).toList());
+        assertEquals(List.of(0, 1, 2, 3), results.stream().map(EmployeeCreateResult::getIndex).toList());
+        assertEquals("age must be greater than or equal to 16", results.get(1).getError());
+        assertEquals("Dan", results.get(2).getEmployee().getEmployee_name());
+        assertEquals(
+                List.of("Alice", "Bob", "Dan"),
+                cache.snapshot().getEmployees().stream().map(Employee::getEmployee_name).toList());
+        verify(client, never()).createEmployee(any());
+    }
+
+    @Test
+    void createEmployees_createsEachOnItsOwnWhenTheUpstreamHasNoBulkCreate() {
+        TestUtils.setField(cache, "enabled", false);
+        when(client.createEmployee(any())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        List<EmployeeCreateResult> results = service.createEmployees(List.of(request("Bob", 30), request("Dan", 40)));
+
+        assertEquals(List.of(201, 201), results.stream().map(EmployeeCreateResult::getStatus).toList());
+        assertEquals("Bob", results.get(0).getEmployee().getEmployee_name());
+        verify(client).createEmployees(any());
+    }
+
+    private static CreateEmployeeRequest request(String name, int age) {
+        return CreateEmployeeRequest.builder()
+                .name(name)
+                .salary(50000)
+                .age(age)
+                .title("Engineer")
+                .build();
+    }
+
+    private static Employee created(Employee employee) {
+        employee.setId(UUID.randomUUID().toString());
+        return employee;
+    }
+
+    private static Employee employee(String name) {
+        return new Employee(UUID.randomUUID().toString(), name, 50000, 30, "Engineer", name + "@test.com");
+    }
+}
@@ -3,16 +3,21 @@ package com.reliaquest.api.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.cache.EmployeeRosterCache;
 import com.reliaquest.api.client.EmployeeApiClient;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.util.TestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -22,9 +27,14 @@ class DefaultEmployeeServiceTest {
     @Mock
     private EmployeeApiClient client;
 
-    @InjectMocks
     private DefaultEmployeeService service;
 
+    @BeforeEach
+    void setUp() {
+        service = new DefaultEmployeeService(
+                client, new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry()));
+    }
+
     @Test
     void testGetAllEmployees() {
         List<Employee> mockList = Arrays.asList(
@@ -100,7 +110,77 @@ class DefaultEmployeeServiceTest {
         EmployeeResponse resp = new EmployeeResponse();
         resp.setData(List.of(emp));
         when(client.getEmployeeById("55")).thenReturn(resp);
+        when(client.deleteEmployee("55", "Eve")).thenReturn(true);
         String result = service.deleteEmployeeById("55");
         assertEquals("Eve", result);
     }
+
+    @Test
+    void deleteEmployeeById_takesTheNameFromTheHeldSnapshotAndDropsTheEmployeeFromIt() {
+        EmployeeRosterCache cache = new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry());
+        service = new DefaultEmployeeService(client, cache);
+        when(client.getAllEmployees())
+                .thenReturn(List.of(
+                        new Employee("1", "Alice", 50000, 30, "Engineer", "alice@test.com"),
+                        new Employee("2", "Alice", 70000, 35, "Manager", "alice2@test.com")));
+        cache.snapshot();
+        when(client.deleteEmployee("2", "Alice")).thenReturn(true);
+
+        assertEquals("Alice", service.deleteEmployeeById("2"));
+
+        verify(client, never()).getEmployeeById(anyString());
+        assertEquals(List.of("1"), cache.peek().getEmployees().stream()
+                .map(Employee::getId)
+                .toList());
+    }
+
+    @Test
+    void deleteEmployeeById_isNotFoundWhenTheUpstreamDeletesNobody() {
+        EmployeeRosterCache cache = new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry());
+        service = new DefaultEmployeeService(client, cache);
+        when(client.getAllEmployees())
+                .thenReturn(List.of(new Employee("1", "Alice", 50000, 30, "Engineer", "alice@test.com")));
+        cache.snapshot();
+        when(client.deleteEmployee("1", "Alice")).thenReturn(false);
+
+        assertThrows(EmployeeNotFoundException.class, () -> service.deleteEmployeeById("1"));
+        assertNull(cache.peek().findById("1"));
+    }
+
+    @Test
+    void streamsAggregatesAndSearchFromUpstreamWhenTheCacheIsDisabled() {
+        EmployeeRosterCache cache = new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry());
+        TestUtils.setField(cache, "enabled", false);
+        service = new DefaultEmployeeService(client, cache);
+        List<Employee> roster = Arrays.asList(
+                new Employee("1", "Alice", 50000, 30, "Engineer", "alice@test.com"),
+                new Employee("2", "Bob", 120000, 35, "Manager", "bob@test.com"),
+                new Employee("3", "Malice", 70000, 40, "Lead", "malice@test.com"));
+        doAnswer(invocation -> {
+                    Consumer<Employee> consumer = invocation.getArgument(0);
+                    roster.forEach(consumer);
+                    return null;
+                })
+                .when(client)
+                .streamAllEmployees(any());
+
+        assertEquals(120000, service.getHighestSalaryOfEmployees());
+        assertEquals(List.of("Bob", "Malice", "Alice"), service.getTopTenHighestEarningEmployeeNames());
+        assertEquals(List.of(roster.get(0), roster.get(2)), service.getEmployeesByNameSearch("ALI"));
+        verify(client, never()).getAllEmployees();
+    }
+
+    @Test
+    void pushesSalaryAggregatesUpstreamWhenTheCacheIsDisabled() {
+        EmployeeRosterCache cache = new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry());
+        TestUtils.setField(cache, "enabled", false);
+        service = new DefaultEmployeeService(client, cache);
+        when(client.getHighestSalary()).thenReturn(Optional.of(120000));
+        when(client.getTopEarnerNames(10)).thenReturn(Optional.of(List.of("Bob", "Malice")));
+
+        assertEquals(120000, service.getHighestSalaryOfEmployees());
+        assertEquals(List.of("Bob", "Malice"), service.getTopTenHighestEarningEmployeeNames());
+        verify(client, never()).streamAllEmployees(any());
+        verify(client, never()).getAllEmployees();
+    }
 }
@@ -0,0 +1,140 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeeJournal;
+import com.reliaquest.server.service.MockEmployeeGenerator;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The mock server's persistence: journaled write throughput with and without {@code fsync}, where concurrent writers
+ * share each flush, and the time to recover a store of a million employees from its snapshot and a log tail.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeJournalBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Writes {
+
+        @Param({"true", "false"})
+        private boolean fsync;
+
+        private Path directory;
+        private EmployeeJournal journal;
+        private MockEmployeeStore store;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal");
+            journal = EmployeeJournal.open(directory, fsync, 100_000);
+            store = new MockEmployeeStore();
+            journal.start(store);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws Exception {
+            journal.close();
+            delete(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Restart {
+
+        @Param({"1000000"})
+        private int rosterSize;
+
+        @Param({"10000"})
+        private int logTail;
+
+        private Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            directory = Files.createTempDirectory("journal");
+            MockEmployeeStore store = new MockEmployeeStore();
+            store.addAll(new MockEmployeeGenerator(Locale.ENGLISH, 42L).generate(rosterSize));
+            try (EmployeeJournal journal = EmployeeJournal.open(directory, false, Long.MAX_VALUE)) {
+                journal.start(store);
+                for (int i = 0; i < logTail; i++) {
+                    store.add(employee());
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(directory);
+        }
+    }
+
+    /**
+     * One create and one delete, each journaled, so the roster stays the same size.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Threads(8)
+    public boolean createAndDelete(Writes writes) {
+        MockEmployee employee = employee();
+        writes.store.add(employee);
+        return writes.store.removeById(employee.getId()).isPresent();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public MockEmployeeStore restart(Restart restart) throws Exception {
+        MockEmployeeStore store = new MockEmployeeStore();
+        try (EmployeeJournal journal = EmployeeJournal.open(restart.directory, false, Long.MAX_VALUE)) {
+            journal.recover(store);
+        }
+        return store;
+    }
+
+    private static MockEmployee employee() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return MockEmployee.builder()
+                .id(new UUID(random.nextLong(), random.nextLong()))
+                .name("Bench Employee")
+                .salary(random.nextInt(30000, 500000))
+                .age(random.nextInt(16, 70))
+                .title("Engineer")
+                .email("bench@company.com")
+                .build();
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.FanOutExecutor;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.DefaultEmployeeService;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * The read endpoints as the controller sees them: {@link DefaultEmployeeService} over a warm roster cache, so the
+ * numbers include the snapshot lookup and staleness check on top of the aggregates and index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "10000", "100000"})
+    private int rosterSize;
+
+    private DefaultEmployeeService service;
+
+    @Setup
+    public void setUp() {
+        List<Employee> roster = Rosters.random(rosterSize, 42L);
+        EmployeeApiClient client = new EmployeeApiClient(
+                new RestTemplate(),
+                new ObjectMapper(),
+                RetryRegistry.ofDefaults(),
+                CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(),
+                new SimpleMeterRegistry(),
+                new FanOutExecutor(new SimpleAsyncTaskExecutor())) {
+            @Override
+            public List<Employee> getAllEmployees() {
+                return roster;
+            }
+        };
+        EmployeeRosterCache cache = new EmployeeRosterCache(client, Runnable::run, new SimpleMeterRegistry());
+        cache.snapshot();
+        service = new DefaultEmployeeService(client, cache);
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return service.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<String> topTenNames() {
+        return service.getTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public List<Employee> nameSearch() {
+        return service.getEmployeesByNameSearch("Langosh 4");
+    }
+}
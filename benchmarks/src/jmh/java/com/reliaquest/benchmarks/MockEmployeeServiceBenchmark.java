@@ -0,0 +1,83 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups and deletes on the mock server's in-memory store. Targets rotate through the roster so that the cost is
+ * averaged over every position rather than measured at the front of the roster.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"50", "10000", "100000"})
+    private int rosterSize;
+
+    private MockEmployeeService service;
+    private MockEmployeeStore store;
+    private MockEmployee[] targets;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<MockEmployee> employees = new ArrayList<>(rosterSize);
+        Rosters.random(rosterSize, 42L)
+                .forEach(employee -> employees.add(MockEmployee.builder()
+                        .id(UUID.fromString(employee.getId()))
+                        .name(employee.getEmployee_name())
+                        .salary(employee.getEmployee_salary())
+                        .age(employee.getEmployee_age())
+                        .title(employee.getEmployee_title())
+                        .email(employee.getEmployee_email())
+                        .build()));
+        targets = employees.toArray(MockEmployee[]::new);
+        store = MockEmployeeStore.of(employees);
+        service = new MockEmployeeService(new Faker(new Random(42L)), store);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(targets[advance()].getId());
+    }
+
+    /**
+     * Deletes one employee by name and puts it back at the end of the roster, keeping the roster size fixed. The name
+     * may belong to more than one employee, so whichever one was removed is the one put back.
+     */
+    @Benchmark
+    public Optional<MockEmployee> deleteByName() {
+        Optional<MockEmployee> removed = store.removeByName(targets[advance()].getName());
+        removed.ifPresent(store::add);
+        return removed;
+    }
+
+    private int advance() {
+        int current = next;
+        next = current + 1 == targets.length ? 0 : current + 1;
+        return current;
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.NameIndex;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Name search over a roster: the previous lowercase substring scan versus the per-snapshot trigram index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSearchBenchmark {
+
+    @Param({"10000", "100000", "500000"})
+    private int rosterSize;
+
+    @Param({"Langosh 42", "ixon 99"})
+    private String fragment;
+
+    private List<Employee> roster;
+    private NameIndex index;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.random(rosterSize, 42L);
+        index = NameIndex.of(roster);
+    }
+
+    @Benchmark
+    public List<Employee> search_scan() {
+        return roster.stream()
+                .filter(emp -> emp.getEmployee_name().toLowerCase().contains(fragment.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Employee> search_index() {
+        return index.search(fragment);
+    }
+}
@@ -0,0 +1,100 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeeSnapshotFile;
+import com.reliaquest.server.service.MockEmployeeGenerator;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import net.datafaker.transformations.Field;
+import net.datafaker.transformations.JavaObjectTransformer;
+import net.datafaker.transformations.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time for the mock server to fill its store at startup, one cold run per iteration: with the reflective
+ * {@link JavaObjectTransformer} loop the server used to run, with {@link MockEmployeeGenerator}, and from an
+ * {@link EmployeeSnapshotFile}. {@code ./gradlew benchmarks:jmh -PjmhIncludes=RosterSeedingBenchmark} reports all
+ * three for each roster size; the transformer baseline takes minutes at a million employees.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RosterSeedingBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int rosterSize;
+
+    private Path snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        snapshot = Files.createTempFile("roster", ".bin");
+        EmployeeSnapshotFile.write(snapshot, new MockEmployeeGenerator(Locale.ENGLISH, 42L).generate(rosterSize));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public MockEmployeeStore transformer() {
+        Faker faker = new Faker(Locale.ENGLISH, new Random(42L));
+        JavaObjectTransformer transformer = new JavaObjectTransformer();
+        var schema = Schema.of(
+                Field.field("id", UUID::randomUUID),
+                Field.field("name", () -> faker.name().fullName()),
+                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
+                Field.field("age", () -> faker.number().numberBetween(16, 70)),
+                Field.field("title", () -> faker.job().title()),
+                Field.field(
+                        "email",
+                        () -> ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                                faker.twitter().userName().toLowerCase())));
+        MockEmployeeStore store = new MockEmployeeStore();
+        IntStream.range(0, rosterSize)
+                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
+                .forEach(store::add);
+        return store;
+    }
+
+    @Benchmark
+    public MockEmployeeStore generator() {
+        return fill(new MockEmployeeGenerator(Locale.ENGLISH, 42L).generate(rosterSize));
+    }
+
+    @Benchmark
+    public MockEmployeeStore snapshotFile() throws IOException {
+        return fill(EmployeeSnapshotFile.read(snapshot).employees());
+    }
+
+    private static MockEmployeeStore fill(List<MockEmployee> employees) {
+        MockEmployeeStore store = new MockEmployeeStore();
+        store.addAll(employees);
+        return store;
+    }
+}
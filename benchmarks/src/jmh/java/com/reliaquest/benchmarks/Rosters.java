@@ -0,0 +1,39 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic roster fixtures so numbers are comparable between runs.
+ */
+final class Rosters {
+
+    private static final String[] FIRST_NAMES = {
+        "Tiger", "Bill", "Jill", "Ben", "Alice", "Bob", "Carol", "Dan", "Erin", "Frank", "Grace", "Heidi"
+    };
+    private static final String[] LAST_NAMES = {
+        "Nixon", "Bob", "Jenkins", "Langosh", "Smith", "Jones", "Miller", "Garcia", "Brown", "Davis", "Lopez", "Young"
+    };
+
+    private Rosters() {}
+
+    static List<Employee> random(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Employee> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i;
+            roster.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    name,
+                    random.nextInt(30000, 500000),
+                    random.nextInt(16, 70),
+                    "Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        return roster;
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.cache.SalaryAggregates;
+import com.reliaquest.api.model.Employee;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request cost of the salary endpoints: the previous stream-and-sort over the roster versus reading the
+ * aggregates precomputed for the snapshot, plus what building those aggregates costs once per roster version.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalaryAggregatesBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int rosterSize;
+
+    private List<Employee> roster;
+    private SalaryAggregates aggregates;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.random(rosterSize, 42L);
+        aggregates = SalaryAggregates.of(roster, RosterSnapshot.TOP_EARNERS);
+    }
+
+    @Benchmark
+    public Integer highestSalary_stream() {
+        return roster.stream()
+                .map(Employee::getEmployee_salary)
+                .max(Integer::compareTo)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int highestSalary_aggregates() {
+        return aggregates.getMaxSalary();
+    }
+
+    @Benchmark
+    public List<String> topTen_sortAndLimit() {
+        return roster.stream()
+                .sorted(Comparator.comparingInt(Employee::getEmployee_salary).reversed())
+                .limit(RosterSnapshot.TOP_EARNERS)
+                .map(Employee::getEmployee_name)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> topTen_aggregates() {
+        return aggregates.getTopNames();
+    }
+
+    @Benchmark
+    public SalaryAggregates build_oncePerSnapshot() {
+        return SalaryAggregates.of(roster, RosterSnapshot.TOP_EARNERS);
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Both ends of the roster payload: the server writing {@link MockEmployee}s through its prefix naming strategy, and
+ * the api reading the same bytes back into an {@link EmployeeResponse}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1", "50", "10000"})
+    private int rosterSize;
+
+    // Spring Boot's default ObjectMapper ignores unknown properties; the api relies on that for the envelope.
+    private final ObjectMapper objectMapper =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private Response<List<MockEmployee>> serverResponse;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<MockEmployee> employees =
+                Rosters.random(rosterSize, 42L).stream().map(SerializationBenchmark::toMock).toList();
+        serverResponse = Response.handledWith(employees);
+        payload = objectMapper.writeValueAsBytes(serverResponse);
+    }
+
+    @Benchmark
+    public byte[] serialize_mockEmployees() throws IOException {
+        return objectMapper.writeValueAsBytes(serverResponse);
+    }
+
+    @Benchmark
+    public EmployeeResponse deserialize_employeeResponse() throws IOException {
+        return objectMapper.readValue(payload, EmployeeResponse.class);
+    }
+
+    private static MockEmployee toMock(Employee employee) {
+        return MockEmployee.builder()
+                .id(UUID.fromString(employee.getId()))
+                .name(employee.getEmployee_name())
+                .salary(employee.getEmployee_salary())
+                .age(employee.getEmployee_age())
+                .title(employee.getEmployee_title())
+                .email(employee.getEmployee_email())
+                .build();
+    }
+}
@@ -1,19 +1,24 @@
 package com.reliaquest.server.config;
 
-import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import com.reliaquest.server.persistence.EmployeeJournal;
+import com.reliaquest.server.persistence.EmployeeSnapshotFile;
+import com.reliaquest.server.service.MockEmployeeGenerator;
+import com.reliaquest.server.service.MockEmployeeStore;
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import com.reliaquest.server.web.TokenBucketRequestLimiter;
+import com.reliaquest.server.web.WindowRequestLimiter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -25,35 +30,130 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    // Larger rosters are not logged one employee at a time, even at debug.
+    private static final int DEBUG_LOGGED_EMPLOYEES = 1_000;
+
+    @Value("${mock.rate-limit.mode:random}")
+    private RateLimitMode rateLimitMode = RateLimitMode.RANDOM;
+
+    @Value("${mock.rate-limit.limit:5}")
+    private int rateLimit = 5;
+
+    @Value("${mock.rate-limit.window:30s}")
+    private Duration rateLimitWindow = Duration.ofSeconds(30);
+
+    @Value("${mock.rate-limit.client-header:}")
+    private String rateLimitClientHeader;
+
+    @Value("${mock.rate-limit.idle-after:5m}")
+    private Duration rateLimitIdleAfter = Duration.ofMinutes(5);
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
-    /*
-     * This list is modifiable by design for CRUD operations.
+    /**
+     * Journals the store to {@code mock.persistence.directory}, so creates and deletes survive a restart.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+    public EmployeeJournal employeeJournal(
+            @Value("${mock.persistence.directory:data}") String directory,
+            @Value("${mock.persistence.fsync:true}") boolean fsync,
+            @Value("${mock.persistence.compact-after:100000}") long compactAfter)
+            throws IOException {
+        return EmployeeJournal.open(Path.of(directory), fsync, compactAfter);
+    }
+
+    /**
+     * Fills the store at startup, from the first of these that applies:
+     *
+     * <ul>
+     *   <li>the {@link EmployeeJournal}, when persistence is on and has state from an earlier run
+     *   <li>{@code mock.employees.snapshot-file}, when it names an existing file
+     *   <li>{@code mock.employees.max} generated employees, reproducible with {@code mock.employees.seed}; without a
+     *       seed a random one is picked and logged. When {@code mock.employees.snapshot-file} is set, the generated
+     *       roster is written there so the next start can load it.
+     * </ul>
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeStore mockEmployeeStore(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.snapshot-file:}") String snapshotFile,
+            @Value("${mock.changes.capacity:10000}") int changeLogCapacity,
+            ObjectProvider<EmployeeJournal> journalProvider)
+            throws IOException {
+        final long started = System.nanoTime();
+        final var store = new MockEmployeeStore(changeLogCapacity);
+        final var journal = journalProvider.getIfAvailable();
+        final var snapshot = snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+        final boolean recovered = journal != null && journal.hasState();
+        final String source;
+        if (recovered) {
+            journal.recover(store);
+            source = "journal";
+        } else if (snapshot != null && Files.exists(snapshot)) {
+            store.addAll(EmployeeSnapshotFile.read(snapshot).employees());
+            source = "snapshot " + snapshot;
+        } else {
+            final long generatorSeed = seed != null ? seed : new SecureRandom().nextLong();
+            final var employees =
+                    new MockEmployeeGenerator(Locale.getDefault(), generatorSeed).generate(maxEmployees);
+            if (snapshot != null) {
+                EmployeeSnapshotFile.write(snapshot, employees);
+                log.info("Wrote {} employees to {}", employees.size(), snapshot);
+            }
+            store.addAll(employees);
+            source = "seed " + generatorSeed;
+        }
+        if (journal != null && !recovered) {
+            journal.start(store);
+        }
+        if (log.isDebugEnabled() && store.size() <= DEBUG_LOGGED_EMPLOYEES) {
+            store.snapshot().employees().forEach(mockEmployee -> log.debug("Created employee: {}", mockEmployee));
+        }
+        log.info(
+                "Loaded {} employees from {} in {} ms",
+                store.size(),
+                source,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return store;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        final var limiter =
+                switch (rateLimitMode) {
+                    case RANDOM -> WindowRequestLimiter.random();
+                    case FIXED -> new WindowRequestLimiter(rateLimit, rateLimitWindow);
+                    case TOKEN_BUCKET -> new TokenBucketRequestLimiter(rateLimit, rateLimitWindow, rateLimitIdleAfter);
+                    case OFF -> null;
+                };
+        if (limiter == null) {
+            log.info("Request rate limiting is off");
+            return;
+        }
+        registry.addInterceptor(new RequestLimitInterceptor(limiter, rateLimitClientHeader));
+    }
+
+    /**
+     * Which {@link com.reliaquest.server.web.RequestLimiter} guards the API:
+     *
+     * <ul>
+     *   <li>{@code RANDOM}, the default: one limit shared by every client, with a random limit and window
+     *   <li>{@code FIXED}: the same, with {@code mock.rate-limit.limit} and {@code mock.rate-limit.window}, for
+     *       reproducible runs
+     *   <li>{@code TOKEN_BUCKET}: a bucket per client, keyed by {@code mock.rate-limit.client-header} or the remote
+     *       address, holding {@code mock.rate-limit.limit} tokens refilled over {@code mock.rate-limit.window}
+     *   <li>{@code OFF}
+     * </ul>
+     */
+    public enum RateLimitMode {
+        RANDOM,
+        FIXED,
+        TOKEN_BUCKET,
+        OFF
     }
 }
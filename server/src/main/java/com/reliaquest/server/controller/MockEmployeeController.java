@@ -1,14 +1,20 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.ChangeFeed;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.CreateMockEmployeesInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.LookupMockEmployeesInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.model.TopEarner;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,7 +23,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -26,9 +34,89 @@ public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
 
+    @Value("${mock.pagination.max-limit:1000}")
+    private int maxPageLimit = 1000;
+
+    @Value("${mock.lookup.max-ids:1000}")
+    private int maxLookupIds = 1000;
+
+    @Value("${mock.bulk.max-employees:1000}")
+    private int maxBulkEmployees = 1000;
+
+    /**
+     * Lists every employee with a strong ETag for the store version listed. A request whose {@code If-None-Match}
+     * still matches gets an empty 304 instead of the roster.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(WebRequest request) {
+        final var snapshot = mockEmployeeService.getSnapshot();
+        final var etag = "\"" + snapshot.cursor() + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(Response.handledWith(snapshot.employees()));
+    }
+
+    /**
+     * A page of the roster in the same order as {@link #getEmployees}. Every page of one walk comes from the snapshot
+     * the first page was cut from, however the store changes meanwhile; {@code limit} is capped at
+     * {@code mock.pagination.max-limit}. A cursor whose snapshot is no longer retained gets 410, and the walk has to
+     * start again without one.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<Response<EmployeePage>> getEmployeePage(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        return mockEmployeeService
+                .getPage(cursor, Math.max(1, Math.min(limit, maxPageLimit)))
+                .map(page -> ResponseEntity.ok(Response.handledWith(page)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Unknown or expired page cursor: " + cursor)));
+    }
+
+    /**
+     * Creates and deletes since the roster identified by {@code since}, the value of an ETag from {@link #getEmployees}
+     * or the cursor of an earlier feed, without the quotes.
+     */
+    @GetMapping("/changes")
+    public Response<ChangeFeed> getChanges(@RequestParam("since") String since) {
+        return Response.handledWith(mockEmployeeService.getChangesSince(since));
+    }
+
+    /**
+     * The employees with the given ids, in the order asked for and each listed once; ids that match nobody are left
+     * out. A request with more than {@code mock.lookup.max-ids} ids gets 400.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<Response<List<MockEmployee>>> lookupEmployees(
+            @Valid @RequestBody LookupMockEmployeesInput input) {
+        if (input.getIds().size() > maxLookupIds) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("At most " + maxLookupIds + " ids can be looked up at once"));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.getEmployees(input.getIds())));
+    }
+
+    @GetMapping("/stats/count")
+    public Response<Integer> getEmployeeCount() {
+        return Response.handledWith(mockEmployeeService.getCount());
+    }
+
+    /**
+     * The highest salary, or no data when nobody has one.
+     */
+    @GetMapping("/stats/highest-salary")
+    public Response<Integer> getHighestSalary() {
+        return Response.handledWith(mockEmployeeService.getHighestSalary().orElse(null));
+    }
+
+    /**
+     * The {@code limit} highest earners with their names and salaries, ranked as a stable sort of the roster by salary
+     * would rank them. {@code limit} is capped at 100.
+     */
+    @GetMapping("/stats/top-earners")
+    public Response<List<TopEarner>> getTopEarners(@RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return Response.handledWith(mockEmployeeService.getTopEarners(limit));
     }
 
     @GetMapping("/{id}")
@@ -44,6 +132,24 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    /**
+     * Creates every employee in the body, in order, and returns them as created. The request is all or nothing: one
+     * invalid employee, or more than {@code mock.bulk.max-employees} of them, gets 400 and nothing is created.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<Response<List<MockEmployee>>> createEmployees(
+            @Valid @RequestBody CreateMockEmployeesInput input) {
+        if (input.getEmployees().size() > maxBulkEmployees) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("At most " + maxBulkEmployees + " employees can be created at once"));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.createAll(input.getEmployees())));
+    }
+
+    /**
+     * Deletes the earliest-added employee named {@code name}, ignoring case, or, when the body carries an {@code id} as
+     * well, that employee only if it has that name. The data is whether anyone was deleted.
+     */
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
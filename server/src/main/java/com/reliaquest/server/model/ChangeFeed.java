@@ -0,0 +1,15 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Changes after a caller's cursor, oldest first, and the cursor to ask from next time. When {@code resync} is set the
+ * changes the caller needs are no longer retained, or the cursor belongs to another store instance, and the caller
+ * has to reload the whole roster instead.
+ */
+public record ChangeFeed(String cursor, boolean resync, List<MockEmployeeChange> changes) {
+
+    public static ChangeFeed resync(String cursor) {
+        return new ChangeFeed(cursor, true, List.of());
+    }
+}
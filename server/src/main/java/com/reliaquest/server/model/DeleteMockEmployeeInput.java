@@ -1,6 +1,7 @@
 package com.reliaquest.server.model;
 
 import jakarta.validation.constraints.NotBlank;
+import java.util.UUID;
 import lombok.Data;
 
 @Data
@@ -8,4 +9,9 @@ public class DeleteMockEmployeeInput {
 
     @NotBlank
     private String name;
+
+    /**
+     * Optional. When given, only the employee with this id is deleted, and only if it has {@link #name}.
+     */
+    private UUID id;
 }
@@ -0,0 +1,17 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * One page of the roster as of {@code snapshot}. {@code next} is the cursor of the following page, or {@code null} on
+ * the last one. A page cursor is always {@code <snapshot>:<offset>}, so a caller that knows {@code total} from the
+ * first page can ask for the remaining pages in any order, or all at once.
+ */
+public record EmployeePage(String snapshot, int offset, int total, List<MockEmployee> employees, String next) {
+
+    public static final char OFFSET_SEPARATOR = ':';
+
+    public static String cursor(String snapshot, int offset) {
+        return snapshot + OFFSET_SEPARATOR + offset;
+    }
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+
+@Data
+public class LookupMockEmployeesInput {
+
+    @NotEmpty
+    private List<@NotNull UUID> ids;
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+/**
+ * One create or delete applied to the mock roster. {@code sequence} is the store version the change produced, so
+ * changes are totally ordered and gap-free within one store instance.
+ */
+public record MockEmployeeChange(long sequence, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+import java.util.UUID;
+
+/**
+ * An employee's place in the salary ranking, without the rest of the record.
+ */
+public record TopEarner(UUID id, String name, Integer salary) {
+
+    public static TopEarner of(MockEmployee employee) {
+        return new TopEarner(employee.getId(), employee.getName(), employee.getSalary());
+    }
+}
@@ -0,0 +1,393 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.service.ChangeJournal;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a {@link MockEmployeeStore} on disk as an {@link EmployeeSnapshotFile} plus an append-only log of the creates
+ * and deletes made since.
+ *
+ * <ul>
+ *   <li>Changes are queued as the store makes them and written by one thread, which takes everything queued at once
+ *       and writes it with a single {@code write}, and a single {@code fsync} when {@code fsync} is on. A store write
+ *       waits in {@link #sync()} until its batch is down, so concurrent writers share the cost of one flush.
+ *   <li>Every entry carries a sequence number and a CRC. Replay stops at the first entry that is incomplete or does
+ *       not check out, which is where a crash cut the log off, and the log is truncated there.
+ *   <li>Once {@code compactAfter} entries have been written since the last snapshot, a background thread writes a new
+ *       snapshot and drops the log entries it covers.
+ *   <li>On startup the snapshot is memory-mapped and loaded, then the log entries after its sequence are replayed.
+ *   <li>Closing detaches the store, writes out what is still queued, and fails any later {@link #sync()} that would
+ *       otherwise wait for an entry that can no longer be written.
+ * </ul>
+ *
+ * <p>An entry is {@code int} body length, then the body: {@code long} sequence, {@code byte} type, and the employee
+ * as a snapshot record; then the body's CRC32 as an {@code int}.
+ */
+@Slf4j
+public class EmployeeJournal implements ChangeJournal, AutoCloseable {
+
+    static final String SNAPSHOT_FILE = "employees.snapshot";
+    static final String LOG_FILE = "employees.log";
+    private static final byte CREATED = 1;
+    private static final byte DELETED = 2;
+
+    private final Path snapshotPath;
+    private final Path logPath;
+    private final boolean fsync;
+    private final long compactAfter;
+
+    private final LinkedBlockingQueue<Entry> pending = new LinkedBlockingQueue<>();
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong sinceSnapshot = new AtomicLong();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(daemon("employee-journal-compactor"));
+    private final Thread writer = daemon("employee-journal-writer").newThread(this::writeLoop);
+    private volatile boolean closed;
+
+    // Guarded by durableLock.
+    private final ReentrantLock durableLock = new ReentrantLock();
+    private final Condition durableChanged = durableLock.newCondition();
+    private long durable;
+    private IOException failure;
+
+    // Guarded by channelLock.
+    private final ReentrantLock channelLock = new ReentrantLock();
+    private FileChannel channel;
+    private long written;
+
+    // Set by attach: journal sequence = sequenceBase + (store version - versionBase).
+    private MockEmployeeStore store;
+    private long sequenceBase;
+    private long versionBase;
+
+    private EmployeeJournal(Path directory, boolean fsync, long compactAfter) {
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        this.logPath = directory.resolve(LOG_FILE);
+        this.fsync = fsync;
+        this.compactAfter = compactAfter;
+    }
+
+    public static EmployeeJournal open(Path directory, boolean fsync, long compactAfter) throws IOException {
+        Files.createDirectories(directory);
+        return new EmployeeJournal(directory, fsync, compactAfter);
+    }
+
+    /**
+     * Whether anything has been persisted here before, so that the store should be recovered rather than seeded.
+     */
+    public boolean hasState() {
+        return Files.exists(snapshotPath) || Files.exists(logPath);
+    }
+
+    /**
+     * Loads the snapshot into {@code store}, which must be empty, replays the log after it, and then journals every
+     * later change to {@code store}.
+     *
+     * @return how many log entries were replayed
+     */
+    public long recover(MockEmployeeStore store) throws IOException {
+        long sequence = 0;
+        if (Files.exists(snapshotPath)) {
+            EmployeeSnapshotFile.Contents snapshot = EmployeeSnapshotFile.read(snapshotPath);
+            store.addAll(snapshot.employees());
+            sequence = snapshot.sequence();
+        }
+        long snapshotSequence = sequence;
+        long replayed = 0;
+        long validLength = 0;
+        if (Files.exists(logPath)) {
+            try (FileChannel log = FileChannel.open(logPath, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = log.map(FileChannel.MapMode.READ_ONLY, 0, log.size());
+                byte[] scratch = new byte[0xFFFF];
+                while (true) {
+                    Entry entry = readEntry(buffer, scratch);
+                    if (entry == null) {
+                        break;
+                    }
+                    validLength = buffer.position();
+                    if (entry.sequence() <= sequence) {
+                        continue;
+                    }
+                    apply(store, entry);
+                    sequence = entry.sequence();
+                    replayed++;
+                }
+            }
+        }
+        attach(store, sequence, validLength);
+        sinceSnapshot.set(sequence - snapshotSequence);
+        log.info("Recovered {} employees, replaying {} logged changes", store.size(), replayed);
+        return replayed;
+    }
+
+    /**
+     * Journals every later change to {@code store}, starting with a snapshot of what it holds now.
+     */
+    public void start(MockEmployeeStore store) throws IOException {
+        EmployeeSnapshotFile.write(snapshotPath, store.snapshot().employees(), 0);
+        Files.deleteIfExists(logPath);
+        attach(store, 0, 0);
+    }
+
+    private void attach(MockEmployeeStore store, long sequence, long logLength) throws IOException {
+        this.store = store;
+        this.sequenceBase = sequence;
+        this.versionBase = store.version();
+        channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(logLength);
+        channel.position(logLength);
+        written = logLength;
+        appended.set(sequence);
+        durable = sequence;
+        writer.start();
+        store.attach(this);
+    }
+
+    @Override
+    public void append(MockEmployeeChange change) {
+        long sequence = sequenceBase + change.sequence() - versionBase;
+        pending.add(new Entry(sequence, change.type(), change.employee()));
+        appended.set(sequence);
+    }
+
+    @Override
+    public void sync() {
+        long target = appended.get();
+        durableLock.lock();
+        try {
+            while (durable < target && failure == null) {
+                durableChanged.awaitUninterruptibly();
+            }
+            if (durable < target) {
+                throw new UncheckedIOException("Employee journal can no longer be written", failure);
+            }
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException, IOException {
+        if (store != null) {
+            store.detach(this);
+        }
+        closed = true;
+        if (writer.isAlive()) {
+            writer.join();
+        }
+        durableLock.lock();
+        try {
+            if (failure == null) {
+                failure = new IOException("Employee journal is closed");
+            }
+            durableChanged.signalAll();
+        } finally {
+            durableLock.unlock();
+        }
+        compactor.shutdown();
+        compactor.awaitTermination(1, TimeUnit.MINUTES);
+        channelLock.lock();
+        try {
+            if (channel != null) {
+                channel.force(true);
+                channel.close();
+            }
+        } finally {
+            channelLock.unlock();
+        }
+    }
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+        DataOutputStream out = new DataOutputStream(bytes);
+        while (!closed || !pending.isEmpty()) {
+            try {
+                Entry first = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pending.drainTo(batch);
+                for (Entry entry : batch) {
+                    writeEntry(out, entry);
+                }
+                write(ByteBuffer.wrap(bytes.toByteArray()));
+                markDurable(batch.get(batch.size() - 1).sequence(), null);
+                if (sinceSnapshot.addAndGet(batch.size()) >= compactAfter && compacting.compareAndSet(false, true)) {
+                    compactor.execute(this::compact);
+                }
+            } catch (IOException ex) {
+                log.error("Could not write the employee journal", ex);
+                markDurable(Long.MIN_VALUE, ex);
+                return;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+                bytes.reset();
+            }
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        channelLock.lock();
+        try {
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } finally {
+            channelLock.unlock();
+        }
+    }
+
+    private void markDurable(long sequence, IOException ex) {
+        durableLock.lock();
+        try {
+            durable = Math.max(durable, sequence);
+            failure = ex;
+            durableChanged.signalAll();
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a snapshot of the store and drops the log before it. The log is cut at where it ended before the
+     * snapshot was taken; entries past that point may also be in the snapshot, and replay skips those by sequence.
+     * The snapshot is in place before the log is cut, so a crash in between only leaves entries replay will skip.
+     */
+    void compact() {
+        try {
+            long cutAt;
+            channelLock.lock();
+            try {
+                cutAt = written;
+            } finally {
+                channelLock.unlock();
+            }
+            MockEmployeeStore.Snapshot snapshot = store.snapshot();
+            long sequence = sequenceBase + snapshot.version() - versionBase;
+            sinceSnapshot.set(0);
+            EmployeeSnapshotFile.write(snapshotPath, snapshot.employees(), sequence);
+
+            channelLock.lock();
+            try {
+                Path tail = Files.createTempFile(logPath.getParent(), LOG_FILE, ".tmp");
+                try (FileChannel copy = FileChannel.open(tail, StandardOpenOption.WRITE)) {
+                    long position = cutAt;
+                    while (position < written) {
+                        position += channel.transferTo(position, written - position, copy);
+                    }
+                    copy.force(true);
+                }
+                Files.move(tail, logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                channel.close();
+                channel = FileChannel.open(logPath, StandardOpenOption.WRITE);
+                written = channel.size();
+                channel.position(written);
+            } finally {
+                channelLock.unlock();
+            }
+            log.info("Compacted the employee journal at sequence {}", sequence);
+        } catch (IOException ex) {
+            log.error("Could not compact the employee journal", ex);
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private static void writeEntry(DataOutputStream out, Entry entry) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+        DataOutputStream bodyOut = new DataOutputStream(body);
+        bodyOut.writeLong(entry.sequence());
+        bodyOut.writeByte(entry.type() == MockEmployeeChange.Type.CREATED ? CREATED : DELETED);
+        EmployeeSnapshotFile.writeRecord(bodyOut, entry.employee());
+        CRC32 crc = new CRC32();
+        crc.update(body.toByteArray());
+        out.writeInt(body.size());
+        body.writeTo(out);
+        out.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * The entry at the buffer's position, or {@code null} when what is left is not a whole, intact entry.
+     */
+    private static Entry readEntry(ByteBuffer buffer, byte[] scratch) {
+        if (buffer.remaining() < Integer.BYTES) {
+            return null;
+        }
+        int start = buffer.position();
+        int length = buffer.getInt();
+        if (length < Long.BYTES + 1 || buffer.remaining() < length + Integer.BYTES) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(start + Integer.BYTES, length));
+        if ((int) crc.getValue() != buffer.getInt(start + Integer.BYTES + length)) {
+            return null;
+        }
+        try {
+            long sequence = buffer.getLong();
+            MockEmployeeChange.Type type =
+                    buffer.get() == CREATED ? MockEmployeeChange.Type.CREATED : MockEmployeeChange.Type.DELETED;
+            Entry entry = new Entry(sequence, type, EmployeeSnapshotFile.readRecord(buffer, scratch));
+            buffer.position(start + Integer.BYTES + length + Integer.BYTES);
+            return entry;
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static void apply(MockEmployeeStore store, Entry entry) {
+        UUID id = entry.employee().getId();
+        if (entry.type() == MockEmployeeChange.Type.CREATED) {
+            if (store.findById(id).isEmpty()) {
+                store.add(entry.employee());
+            }
+        } else {
+            store.removeById(id);
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Entry(long sequence, MockEmployeeChange.Type type, MockEmployee employee) {}
+}
@@ -0,0 +1,141 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A roster in a compact binary file, for starting the mock server on a large, fixed roster without generating it.
+ *
+ * <p>The file is a header of magic number, format version, the journal sequence the roster is as of (see
+ * {@link EmployeeJournal}) and record count, then one record per employee: the id as
+ * two longs, salary and age as ints, then name, title and email, each as an unsigned short byte length followed by
+ * UTF-8 bytes. Everything is big-endian. A missing salary or age is written as {@code -1}, and a missing string with
+ * length {@code 0xFFFF}. Files are read through a memory map and written to a temporary file that is then moved into
+ * place, so a reader never sees a half-written one.
+ */
+public final class EmployeeSnapshotFile {
+
+    static final int MAGIC = 0x4D4F434B;
+    static final int FORMAT_VERSION = 2;
+    // Version 1 had no sequence; its files read as sequence 0.
+    private static final int FORMAT_VERSION_WITHOUT_SEQUENCE = 1;
+    private static final int ABSENT = 0xFFFF;
+
+    /**
+     * A roster read back from a file, with the journal sequence it was written at.
+     */
+    public record Contents(long sequence, List<MockEmployee> employees) {}
+
+    private EmployeeSnapshotFile() {}
+
+    public static void write(Path path, Collection<MockEmployee> employees) throws IOException {
+        write(path, employees, 0);
+    }
+
+    public static void write(Path path, Collection<MockEmployee> employees, long sequence) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(sequence);
+                out.writeInt(employees.size());
+                for (MockEmployee employee : employees) {
+                    writeRecord(out, employee);
+                }
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    public static Contents read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file too large to map: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 12 || buffer.getInt() != MAGIC) {
+                throw new IOException("Not an employee snapshot file: " + path);
+            }
+            int formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION && formatVersion != FORMAT_VERSION_WITHOUT_SEQUENCE) {
+                throw new IOException("Unsupported snapshot format " + formatVersion + ": " + path);
+            }
+            long sequence = formatVersion == FORMAT_VERSION ? buffer.getLong() : 0;
+            int count = buffer.getInt();
+            List<MockEmployee> employees = new ArrayList<>(count);
+            byte[] scratch = new byte[ABSENT];
+            for (int i = 0; i < count; i++) {
+                employees.add(readRecord(buffer, scratch));
+            }
+            return new Contents(sequence, employees);
+        } catch (RuntimeException ex) {
+            throw new IOException("Corrupt employee snapshot file: " + path, ex);
+        }
+    }
+
+    static void writeRecord(DataOutputStream out, MockEmployee employee) throws IOException {
+        out.writeLong(employee.getId().getMostSignificantBits());
+        out.writeLong(employee.getId().getLeastSignificantBits());
+        out.writeInt(employee.getSalary() != null ? employee.getSalary() : -1);
+        out.writeInt(employee.getAge() != null ? employee.getAge() : -1);
+        writeString(out, employee.getName());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    static MockEmployee readRecord(ByteBuffer buffer, byte[] scratch) {
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        int salary = buffer.getInt();
+        int age = buffer.getInt();
+        return MockEmployee.builder()
+                .id(id)
+                .salary(salary >= 0 ? salary : null)
+                .age(age >= 0 ? age : null)
+                .name(readString(buffer, scratch))
+                .title(readString(buffer, scratch))
+                .email(readString(buffer, scratch))
+                .build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(ABSENT);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= ABSENT) {
+            throw new IOException("String too long for a snapshot record: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer, byte[] scratch) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length == ABSENT) {
+            return null;
+        }
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployeeChange;
+
+/**
+ * Somewhere a {@link MockEmployeeStore} records its changes as it makes them, for instance to persist them.
+ */
+public interface ChangeJournal {
+
+    ChangeJournal NONE = new ChangeJournal() {
+        @Override
+        public void append(MockEmployeeChange change) {}
+
+        @Override
+        public void sync() {}
+    };
+
+    /**
+     * Takes one change. Called under the store's write lock, once per change and in the order the changes were made,
+     * so it must not block.
+     */
+    void append(MockEmployeeChange change);
+
+    /**
+     * Returns once every change appended so far has been recorded. Called after the store's lock is released, by the
+     * thread that made the change, before the change is reported as done.
+     */
+    void sync();
+}
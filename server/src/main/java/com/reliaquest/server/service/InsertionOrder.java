@@ -0,0 +1,159 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+/**
+ * A {@link MockEmployeeStore}'s employees in the order they were added, held as a run of small immutable chunks.
+ *
+ * <p>A write replaces only the chunk it touches, in {@code O(CHUNK_SIZE)}, and {@link #view()} copies chunk references
+ * rather than employees, so listing after a write costs {@code O(n / CHUNK_SIZE)} instead of a copy of the roster.
+ * Views share chunks with each other and with the store, which is safe because a chunk never changes once built.
+ * Adjacent chunks are merged on removal whenever they fit in one, so there are never more than about
+ * {@code 2n / CHUNK_SIZE} of them however the roster churns.
+ *
+ * <p>Not thread-safe: the store only touches it under its write lock. Views may be read from any thread.
+ */
+final class InsertionOrder {
+
+    static final int CHUNK_SIZE = 256;
+
+    private final List<Chunk> chunks = new ArrayList<>();
+    private final Map<UUID, Long> ordinals = new HashMap<>();
+    private long nextOrdinal;
+    private int size;
+
+    /**
+     * Adds {@code employee} after every other one. The caller has checked that its id is new.
+     */
+    void add(MockEmployee employee) {
+        long ordinal = nextOrdinal++;
+        ordinals.put(employee.getId(), ordinal);
+        int last = chunks.size() - 1;
+        if (last >= 0 && chunks.get(last).size() < CHUNK_SIZE) {
+            chunks.set(last, chunks.get(last).with(ordinal, employee));
+        } else {
+            chunks.add(new Chunk(new long[] {ordinal}, new MockEmployee[] {employee}));
+        }
+        size++;
+    }
+
+    /**
+     * Removes the employee with {@code id}. The caller has checked that it is stored.
+     */
+    void remove(UUID id) {
+        long ordinal = ordinals.remove(id);
+        int index = chunkOf(ordinal);
+        Chunk chunk = chunks.get(index).without(ordinal);
+        size--;
+        if (index > 0 && chunks.get(index - 1).size() + chunk.size() <= CHUNK_SIZE) {
+            chunks.set(index - 1, chunks.get(index - 1).concat(chunk));
+            chunks.remove(index);
+        } else if (index + 1 < chunks.size() && chunk.size() + chunks.get(index + 1).size() <= CHUNK_SIZE) {
+            chunks.set(index, chunk.concat(chunks.get(index + 1)));
+            chunks.remove(index + 1);
+        } else if (chunk.size() == 0) {
+            chunks.remove(index);
+        } else {
+            chunks.set(index, chunk);
+        }
+    }
+
+    /**
+     * Every employee as of now, in order. Later writes do not show through.
+     */
+    List<MockEmployee> view() {
+        return size == 0 ? List.of() : new View(chunks.toArray(Chunk[]::new), size);
+    }
+
+    // The last chunk whose first ordinal is at most ordinal; chunks are in ordinal order and never empty.
+    private int chunkOf(long ordinal) {
+        int low = 0;
+        int high = chunks.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (chunks.get(mid).ordinals()[0] <= ordinal) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private record Chunk(long[] ordinals, MockEmployee[] employees) {
+
+        int size() {
+            return ordinals.length;
+        }
+
+        Chunk with(long ordinal, MockEmployee employee) {
+            long[] newOrdinals = Arrays.copyOf(ordinals, size() + 1);
+            MockEmployee[] newEmployees = Arrays.copyOf(employees, size() + 1);
+            newOrdinals[size()] = ordinal;
+            newEmployees[size()] = employee;
+            return new Chunk(newOrdinals, newEmployees);
+        }
+
+        Chunk without(long ordinal) {
+            int at = Arrays.binarySearch(ordinals, ordinal);
+            long[] newOrdinals = new long[size() - 1];
+            MockEmployee[] newEmployees = new MockEmployee[size() - 1];
+            System.arraycopy(ordinals, 0, newOrdinals, 0, at);
+            System.arraycopy(ordinals, at + 1, newOrdinals, at, size() - at - 1);
+            System.arraycopy(employees, 0, newEmployees, 0, at);
+            System.arraycopy(employees, at + 1, newEmployees, at, size() - at - 1);
+            return new Chunk(newOrdinals, newEmployees);
+        }
+
+        Chunk concat(Chunk next) {
+            long[] newOrdinals = Arrays.copyOf(ordinals, size() + next.size());
+            MockEmployee[] newEmployees = Arrays.copyOf(employees, size() + next.size());
+            System.arraycopy(next.ordinals, 0, newOrdinals, size(), next.size());
+            System.arraycopy(next.employees, 0, newEmployees, size(), next.size());
+            return new Chunk(newOrdinals, newEmployees);
+        }
+    }
+
+    /**
+     * An immutable list over a fixed run of chunks.
+     */
+    private static final class View extends AbstractList<MockEmployee> implements RandomAccess {
+
+        private final Chunk[] chunks;
+        private final int[] starts;
+        private final int size;
+
+        View(Chunk[] chunks, int size) {
+            this.chunks = chunks;
+            this.starts = new int[chunks.length];
+            this.size = size;
+            for (int i = 1; i < chunks.length; i++) {
+                starts[i] = starts[i - 1] + chunks[i - 1].size();
+            }
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            Objects.checkIndex(index, size);
+            int chunk = Arrays.binarySearch(starts, index);
+            if (chunk < 0) {
+                chunk = -chunk - 2;
+            }
+            return chunks[chunk].employees()[index - starts[chunk]];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates a mock roster from a seed. The roster is cut into fixed-size partitions that are generated in parallel,
+ * each with its own {@link Faker} seeded from the roster seed and the partition's index, so the same seed and size
+ * always give the same employees in the same order, however many threads did the work.
+ *
+ * <p>Employees are built directly rather than through a reflective transformer, and ids are drawn from the partition's
+ * random source instead of {@link UUID#randomUUID()}, whose shared secure random would serialize the threads.
+ */
+public class MockEmployeeGenerator {
+
+    static final int PARTITION_SIZE = 10_000;
+
+    private final Locale locale;
+    private final long seed;
+
+    public MockEmployeeGenerator(Locale locale, long seed) {
+        this.locale = locale;
+        this.seed = seed;
+    }
+
+    public List<MockEmployee> generate(int count) {
+        int partitions = (count + PARTITION_SIZE - 1) / PARTITION_SIZE;
+        List<List<MockEmployee>> parts = IntStream.range(0, partitions)
+                .parallel()
+                .mapToObj(partition -> partition(
+                        partition, Math.min(PARTITION_SIZE, count - partition * PARTITION_SIZE)))
+                .toList();
+        List<MockEmployee> employees = new ArrayList<>(count);
+        parts.forEach(employees::addAll);
+        return employees;
+    }
+
+    List<MockEmployee> partition(int index, int size) {
+        long partitionSeed = new SplittableRandom(seed + index * 0x9E3779B97F4A7C15L).nextLong();
+        SplittableRandom random = new SplittableRandom(partitionSeed);
+        Faker faker = new Faker(locale, new Random(partitionSeed));
+        List<MockEmployee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(randomUuid(random))
+                    .name(faker.name().fullName())
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(faker.job().title())
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()))
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * A version 4 UUID whose random bits come from {@code random}.
+     */
+    private static UUID randomUuid(SplittableRandom random) {
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new UUID(msb, lsb);
+    }
+}
@@ -1,14 +1,16 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.ChangeFeed;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeePage;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.TopEarner;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +24,80 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore store;
+
+    public List<MockEmployee> getMockEmployees() {
+        return store.snapshot().employees();
+    }
+
+    public MockEmployeeStore.Snapshot getSnapshot() {
+        return store.snapshot();
+    }
+
+    /**
+     * Up to {@code limit} employees from the page {@code cursor} points at, or from the start of the current roster
+     * when there is no cursor. Empty when the cursor is malformed or its snapshot is no longer retained.
+     */
+    public Optional<EmployeePage> getPage(String cursor, int limit) {
+        if (cursor == null) {
+            return Optional.of(page(store.snapshot(), 0, limit));
+        }
+        int separator = cursor.lastIndexOf(EmployeePage.OFFSET_SEPARATOR);
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        int offset;
+        try {
+            offset = Integer.parseInt(cursor.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return Optional.empty();
+        }
+        if (offset < 0) {
+            return Optional.empty();
+        }
+        return store.snapshotAt(cursor.substring(0, separator)).map(snapshot -> page(snapshot, offset, limit));
+    }
+
+    private static EmployeePage page(MockEmployeeStore.Snapshot snapshot, int offset, int limit) {
+        final var employees = snapshot.employees();
+        final int from = Math.min(offset, employees.size());
+        final int to = (int) Math.min((long) from + limit, employees.size());
+        final var next = to < employees.size() ? EmployeePage.cursor(snapshot.cursor(), to) : null;
+        return new EmployeePage(snapshot.cursor(), from, employees.size(), employees.subList(from, to), next);
+    }
+
+    /**
+     * The employees with {@code ids} that exist, in the order asked for and each listed once.
+     */
+    public List<MockEmployee> getEmployees(@NonNull List<UUID> ids) {
+        return new LinkedHashSet<>(ids).stream().map(store::findById).flatMap(Optional::stream).toList();
+    }
+
+    public int getCount() {
+        return store.salaryStats().count();
+    }
+
+    public Optional<Integer> getHighestSalary() {
+        return Optional.ofNullable(store.salaryStats().highestSalary());
+    }
+
+    /**
+     * The {@code limit} highest earners, highest first, with earlier-added employees first among equal salaries.
+     * {@code limit} is capped at {@link MockEmployeeStore#RANKED_EARNERS}.
+     */
+    public List<TopEarner> getTopEarners(int limit) {
+        final var ranked = store.salaryStats().topEarners();
+        return ranked.subList(0, Math.max(0, Math.min(limit, ranked.size()))).stream()
+                .map(TopEarner::of)
+                .toList();
+    }
+
+    public ChangeFeed getChangesSince(@NonNull String cursor) {
+        return store.changesSince(cursor);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return store.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +105,31 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        store.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
-    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
-        }
+    /**
+     * Creates every employee of {@code inputs}, in order, with one store write.
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = inputs.stream()
+                .map(input -> MockEmployee.from(
+                        ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                                faker.twitter().userName().toLowerCase()),
+                        input))
+                .toList();
+        store.addAll(mockEmployees);
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
 
-        return false;
+    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
+        final var mockEmployee = input.getId() != null
+                ? store.removeById(input.getId(), input.getName())
+                : store.removeByName(input.getName());
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
     }
 }
@@ -0,0 +1,442 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.ChangeFeed;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import lombok.NonNull;
+
+/**
+ * In-memory employee store for the mock server, safe for concurrent use by request threads.
+ *
+ * <ul>
+ *   <li>Lookups by id go to a concurrent map and never take the lock.
+ *   <li>Listing returns an immutable snapshot in insertion order, tagged with the store's version. The snapshot is
+ *       published through a volatile field, so reads are lock-free; a write discards it and the next listing rebuilds
+ *       it once for every reader after it. Insertion order is kept as an {@link InsertionOrder} of small immutable
+ *       chunks, so the rebuild under the lock only gathers chunk references and never copies the roster.
+ *   <li>Writes are serialized by a single lock, which keeps insertion order, the id map and the name index in step.
+ *       Deleting by name finds the earliest-added employee with that name, ignoring case, in constant time.
+ *   <li>Every write bumps the version, so two snapshots with the same version hold the same employees.
+ *   <li>Every write is also appended to a bounded change log under the version it produced, so a caller holding the
+ *       cursor of an earlier snapshot can catch up with {@link #changesSince} instead of listing everything again.
+ *   <li>The last few snapshots that were listed stay reachable through {@link #snapshotAt}, so a roster can be read
+ *       page by page, or several pages at a time, from one consistent version while writes carry on.
+ *   <li>Employees are also indexed by salary, highest first and in insertion order within a salary, so the count, the
+ *       highest salary and the top earners are kept up to date by every write rather than computed per read. They are
+ *       published like the snapshot, as {@link SalaryStats} rebuilt at most once per version.
+ *   <li>An attached {@link ChangeJournal} is handed every change in order, and a write returns only once the journal
+ *       has synced it.
+ * </ul>
+ */
+public class MockEmployeeStore {
+
+    /**
+     * The employees as of one version of the store.
+     *
+     * @param epoch identifies this store instance, so that versions from before a restart are never mistaken for
+     *     current ones
+     */
+    public record Snapshot(String epoch, long version, List<MockEmployee> employees) {
+
+        /**
+         * Opaque position of this snapshot, for {@link #changesSince} and as the roster's entity tag.
+         */
+        public String cursor() {
+            return epoch + CURSOR_SEPARATOR + version;
+        }
+    }
+
+    /**
+     * Salary figures as of one version of the store.
+     *
+     * @param highestSalary {@code null} when no employee has a salary
+     * @param topEarners the {@link #RANKED_EARNERS} highest-paid employees at most, highest first, earlier-added first
+     *     among equal salaries; employees without a salary are not ranked
+     */
+    public record SalaryStats(long version, int count, Integer highestSalary, List<MockEmployee> topEarners) {}
+
+    public static final int DEFAULT_CHANGE_LOG_CAPACITY = 10_000;
+    public static final int RANKED_EARNERS = 100;
+    static final int RETAINED_SNAPSHOTS = 8;
+    private static final char CURSOR_SEPARATOR = '-';
+
+    private final String epoch = Long.toHexString(new SecureRandom().nextLong());
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<UUID, MockEmployee> byId = new ConcurrentHashMap<>();
+
+    // Guarded by writeLock.
+    private final InsertionOrder ordered = new InsertionOrder();
+    private final Map<String, LinkedHashSet<UUID>> byName = new HashMap<>();
+    private final TreeMap<Integer, LinkedHashMap<UUID, MockEmployee>> bySalary =
+            new TreeMap<>(Comparator.reverseOrder());
+    private final ArrayDeque<MockEmployeeChange> changeLog = new ArrayDeque<>();
+    private final int changeLogCapacity;
+    private final Map<Long, Snapshot> retained = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Snapshot> eldest) {
+            return size() > RETAINED_SNAPSHOTS;
+        }
+    };
+    private long version;
+
+    private volatile Snapshot snapshot = new Snapshot(epoch, 0, List.of());
+    private volatile SalaryStats salaryStats = new SalaryStats(0, 0, null, List.of());
+    private volatile ChangeJournal journal = ChangeJournal.NONE;
+
+    public MockEmployeeStore() {
+        this(DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    public MockEmployeeStore(int changeLogCapacity) {
+        if (changeLogCapacity < 1) {
+            throw new IllegalArgumentException("changeLogCapacity must be positive: " + changeLogCapacity);
+        }
+        this.changeLogCapacity = changeLogCapacity;
+    }
+
+    public static MockEmployeeStore of(@NonNull Collection<MockEmployee> employees) {
+        MockEmployeeStore store = new MockEmployeeStore();
+        store.addAll(employees);
+        return store;
+    }
+
+    /**
+     * Sends every change from now on to {@code journal}.
+     */
+    public void attach(@NonNull ChangeJournal journal) {
+        writeLock.lock();
+        try {
+            this.journal = journal;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Stops sending changes to {@code journal}, if it is the one attached.
+     */
+    public void detach(@NonNull ChangeJournal journal) {
+        writeLock.lock();
+        try {
+            if (this.journal == journal) {
+                this.journal = ChangeJournal.NONE;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * The store's version now: the number of changes made to it since it was created.
+     */
+    public long version() {
+        writeLock.lock();
+        try {
+            return version;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * Every employee, in the order they were added, as of one point in time.
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (snapshot == null) {
+                snapshot = new Snapshot(epoch, version, ordered.view());
+                retained.put(version, snapshot);
+            }
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Count, highest salary and top earners as of one point in time.
+     */
+    public SalaryStats salaryStats() {
+        SalaryStats current = salaryStats;
+        if (current != null) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (salaryStats == null) {
+                List<MockEmployee> top = new ArrayList<>(Math.min(RANKED_EARNERS, byId.size()));
+                Iterator<LinkedHashMap<UUID, MockEmployee>> salaries = bySalary.values().iterator();
+                while (top.size() < RANKED_EARNERS && salaries.hasNext()) {
+                    Iterator<MockEmployee> sameSalary = salaries.next().values().iterator();
+                    while (top.size() < RANKED_EARNERS && sameSalary.hasNext()) {
+                        top.add(sameSalary.next());
+                    }
+                }
+                Integer highest = bySalary.isEmpty() ? null : bySalary.firstKey();
+                salaryStats = new SalaryStats(version, byId.size(), highest, List.copyOf(top));
+            }
+            return salaryStats;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * The snapshot {@code cursor} identifies, if it is from this store and still retained.
+     */
+    public Optional<Snapshot> snapshotAt(@NonNull String cursor) {
+        long at = versionOf(cursor);
+        Snapshot current = snapshot;
+        if (current != null && current.version() == at) {
+            return Optional.of(current);
+        }
+        writeLock.lock();
+        try {
+            return Optional.ofNullable(retained.get(at));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Adds {@code employee} after every existing one.
+     *
+     * @throws IllegalArgumentException if an employee with the same id is already stored
+     */
+    public void add(@NonNull MockEmployee employee) {
+        UUID id = idOf(employee);
+        writeLock.lock();
+        try {
+            if (byId.containsKey(id)) {
+                throw new IllegalArgumentException("Duplicate employee id: " + id);
+            }
+            insert(employee);
+        } finally {
+            writeLock.unlock();
+        }
+        journal.sync();
+    }
+
+    /**
+     * Adds {@code employees} after every existing one, in order, under one acquisition of the lock. Either all of them
+     * are added or, when one is invalid, none are.
+     *
+     * @throws IllegalArgumentException if an id is missing, already stored, or repeated in {@code employees}
+     */
+    public void addAll(@NonNull Collection<MockEmployee> employees) {
+        Set<UUID> ids = new HashSet<>((int) (employees.size() / 0.75f) + 1);
+        for (MockEmployee employee : employees) {
+            if (!ids.add(idOf(employee))) {
+                throw new IllegalArgumentException("Duplicate employee id: " + employee.getId());
+            }
+        }
+        writeLock.lock();
+        try {
+            for (UUID id : ids) {
+                if (byId.containsKey(id)) {
+                    throw new IllegalArgumentException("Duplicate employee id: " + id);
+                }
+            }
+            employees.forEach(this::insert);
+        } finally {
+            writeLock.unlock();
+        }
+        journal.sync();
+    }
+
+    /**
+     * Removes the earliest-added employee whose name equals {@code name}, ignoring case.
+     */
+    public Optional<MockEmployee> removeByName(@NonNull String name) {
+        MockEmployee removed;
+        writeLock.lock();
+        try {
+            LinkedHashSet<UUID> ids = byName.get(fold(name));
+            removed = ids != null ? remove(ids.iterator().next()) : null;
+        } finally {
+            writeLock.unlock();
+        }
+        if (removed == null) {
+            return Optional.empty();
+        }
+        journal.sync();
+        return Optional.of(removed);
+    }
+
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        return removeIf(id, employee -> true);
+    }
+
+    /**
+     * Removes the employee with {@code id} only if its name equals {@code name}, ignoring case as {@link #removeByName}
+     * does.
+     */
+    public Optional<MockEmployee> removeById(@NonNull UUID id, @NonNull String name) {
+        String folded = fold(name);
+        return removeIf(id, employee -> employee.getName() != null && fold(employee.getName()).equals(folded));
+    }
+
+    private Optional<MockEmployee> removeIf(UUID id, Predicate<MockEmployee> condition) {
+        MockEmployee removed;
+        writeLock.lock();
+        try {
+            MockEmployee stored = byId.get(id);
+            removed = stored != null && condition.test(stored) ? remove(id) : null;
+        } finally {
+            writeLock.unlock();
+        }
+        if (removed == null) {
+            return Optional.empty();
+        }
+        journal.sync();
+        return Optional.of(removed);
+    }
+
+    /**
+     * Every change made after the snapshot {@code cursor} came from, oldest first. Asks for a resync when the cursor is
+     * not from this store instance or when changes after it have already been dropped from the log.
+     */
+    public ChangeFeed changesSince(@NonNull String cursor) {
+        long since = versionOf(cursor);
+        writeLock.lock();
+        try {
+            String next = epoch + CURSOR_SEPARATOR + version;
+            if (since < 0 || since > version) {
+                return ChangeFeed.resync(next);
+            }
+            if (since == version) {
+                return new ChangeFeed(next, false, List.of());
+            }
+            MockEmployeeChange oldest = changeLog.peekFirst();
+            if (oldest == null || oldest.sequence() > since + 1) {
+                return ChangeFeed.resync(next);
+            }
+            List<MockEmployeeChange> changes = new ArrayList<>((int) (version - since));
+            Iterator<MockEmployeeChange> newestFirst = changeLog.descendingIterator();
+            while (newestFirst.hasNext()) {
+                MockEmployeeChange change = newestFirst.next();
+                if (change.sequence() <= since) {
+                    break;
+                }
+                changes.add(change);
+            }
+            Collections.reverse(changes);
+            return new ChangeFeed(next, false, changes);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * The version in a cursor from this store, or {@code -1} for a malformed cursor or one from another instance.
+     */
+    private long versionOf(String cursor) {
+        int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+        if (separator <= 0 || !cursor.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(cursor.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private static UUID idOf(MockEmployee employee) {
+        if (employee == null || employee.getId() == null) {
+            throw new IllegalArgumentException("Employee has no id: " + employee);
+        }
+        return employee.getId();
+    }
+
+    // Caller holds writeLock and has checked that the id is new.
+    private void insert(MockEmployee employee) {
+        UUID id = employee.getId();
+        ordered.add(employee);
+        byId.put(id, employee);
+        if (employee.getName() != null) {
+            byName.computeIfAbsent(fold(employee.getName()), ignored -> new LinkedHashSet<>())
+                    .add(id);
+        }
+        if (employee.getSalary() != null) {
+            bySalary.computeIfAbsent(employee.getSalary(), ignored -> new LinkedHashMap<>())
+                    .put(id, employee);
+        }
+        record(MockEmployeeChange.Type.CREATED, employee);
+    }
+
+    // Caller holds writeLock and has checked that the id is stored.
+    private MockEmployee remove(UUID id) {
+        ordered.remove(id);
+        MockEmployee removed = byId.remove(id);
+        if (removed.getName() != null) {
+            String key = fold(removed.getName());
+            LinkedHashSet<UUID> ids = byName.get(key);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                byName.remove(key);
+            }
+        }
+        if (removed.getSalary() != null) {
+            LinkedHashMap<UUID, MockEmployee> sameSalary = bySalary.get(removed.getSalary());
+            sameSalary.remove(id);
+            if (sameSalary.isEmpty()) {
+                bySalary.remove(removed.getSalary());
+            }
+        }
+        record(MockEmployeeChange.Type.DELETED, removed);
+        return removed;
+    }
+
+    // Caller holds writeLock.
+    private void record(MockEmployeeChange.Type type, MockEmployee employee) {
+        version++;
+        snapshot = null;
+        salaryStats = null;
+        if (changeLog.size() == changeLogCapacity) {
+            changeLog.pollFirst();
+        }
+        MockEmployeeChange change = new MockEmployeeChange(version, type, employee);
+        changeLog.addLast(change);
+        journal.append(change);
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,56 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies a {@link RequestLimiter} to every request, keyed by the {@code clientHeader} header when the request has
+ * one and by the remote address otherwise. Responses carry {@code RateLimit-Limit}, {@code RateLimit-Remaining} and
+ * {@code RateLimit-Reset}; refused requests get 429 with {@code Retry-After}. Times are in whole seconds, rounded up.
+ */
+public class RequestLimitInterceptor implements HandlerInterceptor {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    private final RequestLimiter limiter;
+    private final String clientHeader;
+
+    public RequestLimitInterceptor(RequestLimiter limiter, String clientHeader) {
+        this.limiter = limiter;
+        this.clientHeader = clientHeader == null || clientHeader.isBlank() ? null : clientHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var decision = limiter.acquire(clientOf(request));
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(seconds(decision.reset())));
+        if (!decision.allowed()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds(decision.retryAfter())));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return false;
+        }
+        return true;
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        if (clientHeader != null) {
+            final var client = request.getHeader(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return client;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static long seconds(Duration duration) {
+        return (duration.toNanos() + 999_999_999L) / 1_000_000_000L;
+    }
+}
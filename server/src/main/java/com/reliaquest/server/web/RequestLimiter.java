@@ -0,0 +1,22 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+
+/**
+ * Decides whether a client's request may go ahead. Implementations are called concurrently from every request thread
+ * and must not block.
+ */
+public interface RequestLimiter {
+
+    /**
+     * Takes one request's worth of allowance from {@code client}, if it has any left.
+     */
+    Decision acquire(String client);
+
+    /**
+     * The outcome of {@link #acquire}, with what a client needs to pace itself: the limit, what is left of it, and how
+     * long until it is fully available again. {@code retryAfter} is how long a refused client should wait, and zero
+     * when the request was allowed.
+     */
+    record Decision(boolean allowed, long limit, long remaining, Duration reset, Duration retryAfter) {}
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket per client: each holds up to {@code limit} tokens and refills at {@code limit} per {@code window}, so
+ * a client may burst to the limit and then keeps to the average rate.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} holding the time at which it would next be full, in the style of the
+ * generic cell rate algorithm, so taking a token is one compare-and-set with no lock and no allocation. Buckets live
+ * in a {@link ConcurrentHashMap}, whose bins are updated independently, so clients do not contend with each other.
+ * Buckets that have been full for longer than {@code idleAfter} are swept out now and then by whichever request
+ * finds the sweep due; a client that comes back simply starts with a full bucket, as it would have anyway.
+ */
+public class TokenBucketRequestLimiter implements RequestLimiter {
+
+    // Marks a bucket taken out of the map, so a request still holding it looks the client up again.
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    private final int limit;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long idleNanos;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep;
+
+    public TokenBucketRequestLimiter(int limit, Duration window, Duration idleAfter) {
+        this(limit, window, idleAfter, System::nanoTime);
+    }
+
+    TokenBucketRequestLimiter(int limit, Duration window, Duration idleAfter, LongSupplier clock) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Request limit must be at least 1, was " + limit);
+        }
+        this.limit = limit;
+        this.intervalNanos = Math.max(1, window.toNanos() / limit);
+        this.burstNanos = intervalNanos * limit;
+        this.idleNanos = idleAfter.toNanos();
+        this.clock = clock;
+        this.nextSweep = new AtomicLong(clock.getAsLong() + idleNanos);
+    }
+
+    @Override
+    public Decision acquire(String client) {
+        long now = clock.getAsLong();
+        sweepIfDue(now);
+        AtomicLong bucket = buckets.computeIfAbsent(client, ignored -> new AtomicLong(now));
+        while (true) {
+            long fullAt = bucket.get();
+            if (fullAt == EVICTED) {
+                buckets.remove(client, bucket);
+                bucket = buckets.computeIfAbsent(client, ignored -> new AtomicLong(now));
+                continue;
+            }
+            long next = Math.max(fullAt, now) + intervalNanos;
+            long debt = next - now;
+            if (debt > burstNanos) {
+                Duration wait = Duration.ofNanos(debt - burstNanos);
+                return new Decision(false, limit, 0, Duration.ofNanos(debt - intervalNanos), wait);
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                long remaining = (burstNanos - debt) / intervalNanos;
+                return new Decision(true, limit, remaining, Duration.ofNanos(debt), Duration.ZERO);
+            }
+        }
+    }
+
+    int trackedClients() {
+        return buckets.size();
+    }
+
+    /**
+     * Drops buckets that have been full for a while. A bucket is marked {@link #EVICTED} with a compare-and-set before
+     * it is removed, so a request that takes a token from it at the same moment either wins and keeps it, or sees the
+     * mark and starts a new one; no token is ever taken from a bucket that is no longer counted.
+     */
+    private void sweepIfDue(long now) {
+        long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + idleNanos)) {
+            return;
+        }
+        buckets.forEach((client, bucket) -> {
+            long fullAt = bucket.get();
+            if (fullAt != EVICTED && now - fullAt > idleNanos && bucket.compareAndSet(fullAt, EVICTED)) {
+                buckets.remove(client, bucket);
+            }
+        });
+    }
+}
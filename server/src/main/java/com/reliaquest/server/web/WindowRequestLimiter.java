@@ -0,0 +1,62 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * One limit shared by every client: up to {@code limit} requests, after which everything is refused until
+ * {@code backoff} has passed since the last request let through. This is the mock server's original behavior, with
+ * the count and the time it was last bumped updated together in one compare-and-set, so concurrent requests cannot
+ * both take the last slot.
+ */
+public class WindowRequestLimiter implements RequestLimiter {
+
+    private final int limit;
+    private final long backoffNanos;
+    private final LongSupplier clock;
+    private final AtomicReference<Window> window;
+
+    public WindowRequestLimiter(int limit, Duration backoff) {
+        this(limit, backoff, System::nanoTime);
+    }
+
+    WindowRequestLimiter(int limit, Duration backoff, LongSupplier clock) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Request limit must be at least 1, was " + limit);
+        }
+        this.limit = limit;
+        this.backoffNanos = backoff.toNanos();
+        this.clock = clock;
+        this.window = new AtomicReference<>(new Window(0, clock.getAsLong()));
+    }
+
+    /**
+     * A limit of 5 to 9 requests and a backoff of 30 to 89 seconds, picked at random.
+     */
+    public static WindowRequestLimiter random() {
+        RandomGenerator random = RandomGenerator.getDefault();
+        return new WindowRequestLimiter(random.nextInt(5, 10), Duration.ofSeconds(random.nextInt(30, 90)));
+    }
+
+    @Override
+    public Decision acquire(String client) {
+        long now = clock.getAsLong();
+        while (true) {
+            Window current = window.get();
+            long sinceLast = now - current.lastAllowedNanos();
+            boolean full = current.count() >= limit;
+            if (full && sinceLast < backoffNanos) {
+                Duration wait = Duration.ofNanos(backoffNanos - sinceLast);
+                return new Decision(false, limit, 0, wait, wait);
+            }
+            Window next = new Window(full ? 1 : current.count() + 1, now);
+            if (window.compareAndSet(current, next)) {
+                return new Decision(true, limit, limit - next.count(), Duration.ofNanos(backoffNanos), Duration.ZERO);
+            }
+        }
+    }
+
+    private record Window(int count, long lastAllowedNanos) {}
+}
@@ -0,0 +1,131 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeeJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_replaysCreatesAndDeletesMadeAfterTheSnapshot() throws Exception {
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(employee("Alice"), employee("Bob")));
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, true, Long.MAX_VALUE)) {
+            assertFalse(journal.hasState());
+            journal.start(store);
+            store.add(employee("Carol"));
+            store.removeByName("alice");
+            store.addAll(List.of(employee("Dan"), employee("Erin")));
+        }
+
+        MockEmployeeStore recovered = new MockEmployeeStore();
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, true, Long.MAX_VALUE)) {
+            assertTrue(journal.hasState());
+            assertEquals(4, journal.recover(recovered));
+            recovered.removeByName("bob");
+        }
+        store.removeByName("bob");
+
+        MockEmployeeStore again = new MockEmployeeStore();
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, false, Long.MAX_VALUE)) {
+            journal.recover(again);
+        }
+        assertEquals(store.snapshot().employees(), again.snapshot().employees());
+    }
+
+    @Test
+    void compact_foldsTheLogIntoTheSnapshot() throws Exception {
+        MockEmployeeStore store = new MockEmployeeStore();
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, false, Long.MAX_VALUE)) {
+            journal.start(store);
+            for (int i = 0; i < 20; i++) {
+                store.add(employee("Employee " + i));
+            }
+            long logBefore = Files.size(directory.resolve(EmployeeJournal.LOG_FILE));
+            journal.compact();
+            assertTrue(Files.size(directory.resolve(EmployeeJournal.LOG_FILE)) < logBefore);
+            store.removeByName("Employee 3");
+            store.add(employee("Late"));
+        }
+
+        assertEquals(20, EmployeeSnapshotFile.read(directory.resolve(EmployeeJournal.SNAPSHOT_FILE)).sequence());
+        MockEmployeeStore recovered = new MockEmployeeStore();
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, false, Long.MAX_VALUE)) {
+            assertEquals(2, journal.recover(recovered));
+        }
+        assertEquals(store.snapshot().employees(), recovered.snapshot().employees());
+    }
+
+    /**
+     * A crash mid-write leaves part of an entry at the end of the log. Replay has to stop before it, and the next
+     * entries have to be written where it started so they are not hidden behind it.
+     */
+    @Test
+    void recover_dropsATornEntryAtTheEndOfTheLog() throws Exception {
+        MockEmployeeStore store = new MockEmployeeStore();
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, true, Long.MAX_VALUE)) {
+            journal.start(store);
+            store.add(employee("Alice"));
+        }
+        Files.write(
+                directory.resolve(EmployeeJournal.LOG_FILE), new byte[] {0, 0, 0, 90, 1, 2}, StandardOpenOption.APPEND);
+
+        MockEmployeeStore recovered = new MockEmployeeStore();
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, true, Long.MAX_VALUE)) {
+            assertEquals(1, journal.recover(recovered));
+            recovered.add(employee("Bob"));
+        }
+
+        MockEmployeeStore again = new MockEmployeeStore();
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, true, Long.MAX_VALUE)) {
+            assertEquals(2, journal.recover(again));
+        }
+        assertEquals(recovered.snapshot().employees(), again.snapshot().employees());
+    }
+
+    @Test
+    void close_detachesTheStoreAndFailsSyncsItCanNoLongerServe() throws Exception {
+        MockEmployeeStore store = new MockEmployeeStore();
+        EmployeeJournal journal = EmployeeJournal.open(directory, false, Long.MAX_VALUE);
+        journal.start(store);
+        store.add(employee("Alice"));
+        journal.close();
+
+        store.add(employee("Bob"));
+        journal.sync();
+        journal.append(new MockEmployeeChange(3, MockEmployeeChange.Type.CREATED, employee("Carol")));
+        assertThrows(UncheckedIOException.class, journal::sync);
+
+        MockEmployeeStore recovered = new MockEmployeeStore();
+        try (EmployeeJournal reopened = EmployeeJournal.open(directory, false, Long.MAX_VALUE)) {
+            assertEquals(1, reopened.recover(recovered));
+        }
+        assertEquals(List.of("Alice"), recovered.snapshot().employees().stream().map(MockEmployee::getName).toList());
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
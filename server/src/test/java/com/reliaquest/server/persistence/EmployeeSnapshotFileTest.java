@@ -0,0 +1,48 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeeSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackWhatWasWritten() throws IOException {
+        List<MockEmployee> employees = List.of(
+                new MockEmployee(
+                        UUID.randomUUID(), "Zo\u00eb \u00c5ngstr\u00f6m", 120000, 41, "Engineer", "zoe@company.com"),
+                new MockEmployee(UUID.randomUUID(), null, null, null, null, null));
+        Path file = directory.resolve("nested/roster.bin");
+
+        EmployeeSnapshotFile.write(file, employees, 17);
+
+        assertEquals(new EmployeeSnapshotFile.Contents(17, employees), EmployeeSnapshotFile.read(file));
+        try (var files = Files.list(file.getParent())) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    void rejectsATruncatedFile() throws IOException {
+        Path file = directory.resolve("roster.bin");
+        EmployeeSnapshotFile.write(file, List.of(new MockEmployee(UUID.randomUUID(), "A", 1, 20, "B", "c")));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(IOException.class, () -> EmployeeSnapshotFile.read(file));
+        Files.write(file, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> EmployeeSnapshotFile.read(file));
+    }
+}
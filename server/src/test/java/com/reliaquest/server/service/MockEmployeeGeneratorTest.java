@@ -0,0 +1,36 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    @Test
+    void generate_isReproducibleFromTheSeedAcrossPartitions() {
+        int count = MockEmployeeGenerator.PARTITION_SIZE + 7;
+        List<MockEmployee> first = new MockEmployeeGenerator(Locale.ENGLISH, 42L).generate(count);
+        List<MockEmployee> second = new MockEmployeeGenerator(Locale.ENGLISH, 42L).generate(count);
+
+        assertEquals(count, first.size());
+        assertEquals(first, second);
+        assertEquals(count, new HashSet<>(first.stream().map(MockEmployee::getId).toList()).size());
+        assertNotEquals(first, new MockEmployeeGenerator(Locale.ENGLISH, 43L).generate(count));
+    }
+
+    @Test
+    void generate_joinsPartitionsThatDependOnlyOnTheSeedAndIndex() {
+        MockEmployeeGenerator generator = new MockEmployeeGenerator(Locale.ENGLISH, 7L);
+        List<MockEmployee> roster = generator.generate(MockEmployeeGenerator.PARTITION_SIZE + 3);
+        List<MockEmployee> tail = roster.subList(MockEmployeeGenerator.PARTITION_SIZE, roster.size());
+
+        assertEquals(generator.partition(1, 3), tail);
+        assertEquals(generator.partition(1, 2), tail.subList(0, 2));
+        assertEquals(4, roster.get(0).getId().version());
+    }
+}
@@ -0,0 +1,121 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.TopEarner;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    @Test
+    void getPage_walksOneSnapshotWhileTheStoreChanges() {
+        List<MockEmployee> roster = IntStream.range(0, 5)
+                .mapToObj(i -> employee("Employee " + i))
+                .toList();
+        MockEmployeeStore store = MockEmployeeStore.of(roster);
+        MockEmployeeService service = new MockEmployeeService(new Faker(), store);
+
+        EmployeePage first = service.getPage(null, 2).orElseThrow();
+        assertEquals(5, first.total());
+        assertEquals(EmployeePage.cursor(first.snapshot(), 2), first.next());
+
+        store.removeByName("Employee 0");
+        store.add(employee("Employee 5"));
+
+        List<MockEmployee> walked = new ArrayList<>(first.employees());
+        String cursor = first.next();
+        while (cursor != null) {
+            EmployeePage page = service.getPage(cursor, 2).orElseThrow();
+            assertEquals(first.snapshot(), page.snapshot());
+            walked.addAll(page.employees());
+            cursor = page.next();
+        }
+        assertEquals(roster, walked);
+    }
+
+    @Test
+    void getPage_jumpsStraightToAnOffsetAndRejectsUnknownCursors() {
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(employee("Alice"), employee("Bob"), employee("Carol")));
+        MockEmployeeService service = new MockEmployeeService(new Faker(), store);
+        String snapshot = service.getPage(null, 1).orElseThrow().snapshot();
+
+        EmployeePage last = service.getPage(EmployeePage.cursor(snapshot, 2), 10).orElseThrow();
+        assertEquals("Carol", last.employees().get(0).getName());
+        assertNull(last.next());
+        assertTrue(service.getPage(EmployeePage.cursor(snapshot, 7), 10).orElseThrow().employees().isEmpty());
+
+        assertTrue(service.getPage("unknown-1:0", 10).isEmpty());
+        assertTrue(service.getPage(snapshot, 10).isEmpty());
+        assertTrue(service.getPage(EmployeePage.cursor(snapshot, -1), 10).isEmpty());
+    }
+
+    @Test
+    void getTopEarners_capsTheLimitAndKeepsOnlyNamesAndSalaries() {
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(employee("Alice"), employee("Bob")));
+        MockEmployeeService service = new MockEmployeeService(new Faker(), store);
+
+        List<TopEarner> top = service.getTopEarners(1);
+        assertEquals(List.of(new TopEarner(store.snapshot().employees().get(0).getId(), "Alice", 50000)), top);
+        assertEquals(2, service.getTopEarners(1_000).size());
+        assertTrue(service.getTopEarners(-1).isEmpty());
+        assertEquals(Optional.of(50000), service.getHighestSalary());
+        assertEquals(2, service.getCount());
+    }
+
+    @Test
+    void getEmployees_keepsTheRequestedOrderAndSkipsUnknownAndRepeatedIds() {
+        MockEmployee alice = employee("Alice");
+        MockEmployee bob = employee("Bob");
+        MockEmployeeService service = new MockEmployeeService(new Faker(), MockEmployeeStore.of(List.of(alice, bob)));
+
+        assertEquals(
+                List.of(bob, alice),
+                service.getEmployees(List.of(bob.getId(), UUID.randomUUID(), alice.getId(), bob.getId())));
+    }
+
+    @Test
+    void createAll_addsEveryEmployeeInOrderAfterTheExistingOnes() {
+        MockEmployee alice = employee("Alice");
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(alice));
+        MockEmployeeService service = new MockEmployeeService(new Faker(), store);
+        long version = store.version();
+
+        List<MockEmployee> created = service.createAll(List.of(input("Bob", 60000), input("Carol", 70000)));
+
+        assertEquals(List.of("Bob", "Carol"), created.stream().map(MockEmployee::getName).toList());
+        assertEquals(List.of(alice, created.get(0), created.get(1)), store.snapshot().employees());
+        assertEquals(version + 2, store.version());
+        assertEquals(Optional.of(70000), service.getHighestSalary());
+    }
+
+    private static CreateMockEmployeeInput input(String name, int salary) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(salary);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,344 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.ChangeFeed;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    @Test
+    void snapshot_keepsInsertionOrderAndIsReusedUntilTheNextWrite() {
+        MockEmployee alice = employee("Alice");
+        MockEmployee bob = employee("Bob");
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(alice, bob));
+
+        MockEmployeeStore.Snapshot first = store.snapshot();
+        assertEquals(List.of(alice, bob), first.employees());
+        assertSame(first, store.snapshot());
+
+        MockEmployee carol = employee("Carol");
+        store.add(carol);
+        MockEmployeeStore.Snapshot second = store.snapshot();
+        assertEquals(List.of(alice, bob), first.employees());
+        assertEquals(List.of(alice, bob, carol), second.employees());
+        assertEquals(first.version() + 1, second.version());
+        assertEquals(first.epoch(), second.epoch());
+    }
+
+    @Test
+    void snapshot_keepsInsertionOrderThroughChurnAcrossManyChunks() {
+        MockEmployeeStore store = new MockEmployeeStore();
+        List<MockEmployee> expected = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 20 * InsertionOrder.CHUNK_SIZE; i++) {
+            if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                MockEmployee removed = expected.remove(random.nextInt(expected.size()));
+                assertEquals(Optional.of(removed), store.removeById(removed.getId()));
+            } else {
+                MockEmployee added = employee("Employee " + i);
+                store.add(added);
+                expected.add(added);
+            }
+            if (i % 97 == 0) {
+                MockEmployeeStore.Snapshot snapshot = store.snapshot();
+                assertEquals(expected, snapshot.employees());
+                assertEquals(expected.size(), snapshot.employees().size());
+            }
+        }
+        MockEmployeeStore.Snapshot before = store.snapshot();
+        List<MockEmployee> expectedBefore = List.copyOf(expected);
+        expected.forEach(employee -> store.removeById(employee.getId()));
+
+        assertEquals(expectedBefore, before.employees());
+        assertEquals(List.of(), store.snapshot().employees());
+    }
+
+    @Test
+    void removeByName_ignoresCaseAndRemovesTheEarliestMatch() {
+        MockEmployee first = employee("Jane Doe");
+        MockEmployee second = employee("JANE DOE");
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(first, second));
+
+        assertEquals(Optional.of(first), store.removeByName("jane doe"));
+        assertEquals(Optional.empty(), store.findById(first.getId()));
+        assertEquals(Optional.of(second), store.findById(second.getId()));
+        assertEquals(Optional.of(second), store.removeByName("Jane Doe"));
+        assertEquals(Optional.empty(), store.removeByName("Jane Doe"));
+        assertEquals(List.of(), store.snapshot().employees());
+    }
+
+    @Test
+    void removeById_keepsTheNameIndexInStep() {
+        MockEmployee first = employee("Jane Doe");
+        MockEmployee second = employee("Jane Doe");
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(first, second));
+
+        assertEquals(Optional.of(first), store.removeById(first.getId()));
+        assertEquals(Optional.empty(), store.removeById(first.getId()));
+        assertEquals(Optional.of(second), store.removeByName("jane doe"));
+        assertEquals(Optional.empty(), store.removeByName("jane doe"));
+        assertEquals(4, store.version());
+    }
+
+    @Test
+    void removeByIdAndName_removesOnlyThatEmployeeAndOnlyWhenTheNameMatches() {
+        MockEmployee first = employee("Jane Doe");
+        MockEmployee second = employee("Jane Doe");
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(first, second));
+
+        assertEquals(Optional.empty(), store.removeById(second.getId(), "John Doe"));
+        assertEquals(Optional.of(second), store.removeById(second.getId(), "JANE DOE"));
+        assertEquals(Optional.empty(), store.removeById(second.getId(), "Jane Doe"));
+        assertEquals(List.of(first), store.snapshot().employees());
+    }
+
+    @Test
+    void add_rejectsADuplicateId() {
+        MockEmployee alice = employee("Alice");
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(alice));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> store.add(alice.toBuilder().name("Other").build()));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void addAll_addsInOrderOrNotAtAll() {
+        MockEmployee alice = employee("Alice");
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(alice));
+        MockEmployee bob = employee("Bob");
+
+        assertThrows(IllegalArgumentException.class, () -> store.addAll(List.of(bob, alice)));
+        assertThrows(IllegalArgumentException.class, () -> store.addAll(List.of(bob, bob)));
+        assertEquals(List.of(alice), store.snapshot().employees());
+
+        MockEmployee carol = employee("Carol");
+        store.addAll(List.of(bob, carol));
+        assertEquals(List.of(alice, bob, carol), store.snapshot().employees());
+        assertEquals(Optional.of(carol), store.removeByName("carol"));
+    }
+
+    @Test
+    void salaryStats_ranksBySalaryThenInsertionOrderAndFollowsWrites() {
+        MockEmployee low = employee("Low", 40000);
+        MockEmployee firstHigh = employee("First High", 90000);
+        MockEmployee secondHigh = employee("Second High", 90000);
+        MockEmployee unpaid = employee("Unpaid", null);
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(low, secondHigh, unpaid));
+        store.add(firstHigh);
+
+        MockEmployeeStore.SalaryStats stats = store.salaryStats();
+        assertSame(stats, store.salaryStats());
+        assertEquals(4, stats.count());
+        assertEquals(90000, stats.highestSalary());
+        assertEquals(List.of(secondHigh, firstHigh, low), stats.topEarners());
+
+        store.removeById(secondHigh.getId());
+        store.removeById(firstHigh.getId());
+        assertEquals(40000, store.salaryStats().highestSalary());
+        assertEquals(List.of(low), store.salaryStats().topEarners());
+
+        store.removeById(low.getId());
+        assertEquals(null, store.salaryStats().highestSalary());
+        assertEquals(1, store.salaryStats().count());
+    }
+
+    @Test
+    void salaryStats_ranksAtMostTheConfiguredNumberOfEarners() {
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < MockEmployeeStore.RANKED_EARNERS + 5; i++) {
+            employees.add(employee("Employee " + i, 1000 + i % 7));
+        }
+        MockEmployeeStore store = MockEmployeeStore.of(employees);
+
+        List<MockEmployee> expected = employees.stream()
+                .sorted(Comparator.comparing(MockEmployee::getSalary).reversed())
+                .limit(MockEmployeeStore.RANKED_EARNERS)
+                .toList();
+        assertEquals(expected, store.salaryStats().topEarners());
+    }
+
+    @Test
+    void changesSince_returnsChangesAfterTheCursorInOrder() {
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(employee("Alice")));
+        String cursor = store.snapshot().cursor();
+        MockEmployee bob = employee("Bob");
+        store.add(bob);
+        store.removeByName("alice");
+
+        ChangeFeed feed = store.changesSince(cursor);
+
+        assertFalse(feed.resync());
+        assertEquals(store.snapshot().cursor(), feed.cursor());
+        assertEquals(
+                List.of(MockEmployeeChange.Type.CREATED, MockEmployeeChange.Type.DELETED),
+                feed.changes().stream().map(MockEmployeeChange::type).toList());
+        assertSame(bob, feed.changes().get(0).employee());
+        assertEquals(List.of(), store.changesSince(feed.cursor()).changes());
+    }
+
+    @Test
+    void changesSince_asksForAResyncOnceTheCursorHasBeenTruncatedOrIsForeign() {
+        MockEmployeeStore store = new MockEmployeeStore(2);
+        store.add(employee("Alice"));
+        String cursor = store.snapshot().cursor();
+        store.add(employee("Bob"));
+        assertFalse(store.changesSince(cursor).resync());
+
+        store.add(employee("Carol"));
+        store.add(employee("Dan"));
+
+        assertTrue(store.changesSince(cursor).resync());
+        assertTrue(new MockEmployeeStore().changesSince(cursor).resync());
+        assertTrue(store.changesSince("not-a-cursor").resync());
+    }
+
+    @Test
+    void snapshotAt_findsRetainedSnapshotsUntilTheyAreEvicted() {
+        MockEmployeeStore store = MockEmployeeStore.of(List.of(employee("Alice")));
+        MockEmployeeStore.Snapshot first = store.snapshot();
+
+        store.add(employee("Bob"));
+        assertSame(first, store.snapshotAt(first.cursor()).orElseThrow());
+        MockEmployeeStore.Snapshot second = store.snapshot();
+        assertSame(second, store.snapshotAt(second.cursor()).orElseThrow());
+
+        for (int i = 0; i < MockEmployeeStore.RETAINED_SNAPSHOTS; i++) {
+            store.add(employee("Filler " + i));
+            store.snapshot();
+        }
+
+        assertEquals(Optional.empty(), store.snapshotAt(first.cursor()));
+        assertEquals(Optional.empty(), new MockEmployeeStore().snapshotAt(second.cursor()));
+        assertEquals(Optional.empty(), store.snapshotAt("not-a-cursor"));
+    }
+
+    /**
+     * Writers create and delete while readers list and look up. Every listing has to be a consistent point-in-time
+     * view, and once the writers stop, the id map, the listing and the name index must all agree.
+     */
+    @Test
+    void concurrentWritesAndReads_keepEveryViewConsistent() throws Exception {
+        int initial = 10_000;
+        int writers = 4;
+        int readers = 4;
+        int operationsPerWriter = 20_000;
+        List<MockEmployee> seed = new ArrayList<>(initial);
+        for (int i = 0; i < initial; i++) {
+            seed.add(employee("Seed " + (i % 500)));
+        }
+        MockEmployeeStore store = MockEmployeeStore.of(seed);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicLong created = new AtomicLong();
+        AtomicLong deleted = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch writersDone = new CountDownLatch(writers);
+
+        ExecutorService pool = Executors.newFixedThreadPool(writers + readers);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            long seedValue = w;
+            tasks.add(pool.submit(() -> {
+                SplittableRandom random = new SplittableRandom(seedValue);
+                try {
+                    start.await();
+                    for (int i = 0; i < operationsPerWriter; i++) {
+                        if (random.nextBoolean()) {
+                            store.add(employee("Seed " + random.nextInt(600)));
+                            created.incrementAndGet();
+                        } else if (store.removeByName("SEED " + random.nextInt(600)).isPresent()) {
+                            deleted.incrementAndGet();
+                        }
+                    }
+                } catch (Throwable ex) {
+                    failures.add(ex);
+                } finally {
+                    writersDone.countDown();
+                }
+            }));
+        }
+        for (int r = 0; r < readers; r++) {
+            tasks.add(pool.submit(() -> {
+                try {
+                    start.await();
+                    while (writersDone.getCount() > 0) {
+                        List<MockEmployee> listing = store.snapshot().employees();
+                        Set<UUID> ids = new HashSet<>(listing.size() * 2);
+                        for (MockEmployee employee : listing) {
+                            assertTrue(ids.add(employee.getId()), "employee listed twice");
+                        }
+                        if (!listing.isEmpty()) {
+                            MockEmployee sample = listing.get(listing.size() / 2);
+                            // It may have been deleted since the listing was taken, but never replaced by another.
+                            store.findById(sample.getId()).ifPresent(found -> assertSame(sample, found));
+                        }
+                    }
+                } catch (Throwable ex) {
+                    failures.add(ex);
+                }
+            }));
+        }
+
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS), "stress run did not finish");
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        assertTrue(failures.isEmpty(), () -> "failures: " + failures);
+
+        long expected = initial + created.get() - deleted.get();
+        List<MockEmployee> listing = store.snapshot().employees();
+        assertEquals(expected, store.size());
+        assertEquals(expected, listing.size());
+        for (MockEmployee employee : listing) {
+            assertSame(employee, store.findById(employee.getId()).orElseThrow());
+        }
+        long drained = 0;
+        for (int name = 0; name < 600; name++) {
+            while (store.removeByName("Seed " + name).isPresent()) {
+                drained++;
+            }
+        }
+        assertEquals(expected, drained);
+        assertEquals(0, store.size());
+    }
+
+    private static MockEmployee employee(String name) {
+        return employee(name, 50000);
+    }
+
+    private static MockEmployee employee(String name, Integer salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestLimitInterceptorTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void preHandle_keysByClientHeaderAndReportsTheLimit() {
+        RequestLimitInterceptor interceptor = new RequestLimitInterceptor(
+                new TokenBucketRequestLimiter(1, Duration.ofSeconds(3), Duration.ofMinutes(1), clock::get),
+                "X-Client-Id");
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(request("a"), first, null));
+        assertEquals("1", first.getHeader(RequestLimitInterceptor.LIMIT_HEADER));
+        assertEquals("0", first.getHeader(RequestLimitInterceptor.REMAINING_HEADER));
+        assertEquals("3", first.getHeader(RequestLimitInterceptor.RESET_HEADER));
+        assertNull(first.getHeader("Retry-After"));
+
+        MockHttpServletResponse refused = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request("a"), refused, null));
+        assertEquals(429, refused.getStatus());
+        assertEquals("3", refused.getHeader("Retry-After"));
+
+        assertTrue(interceptor.preHandle(request("b"), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request(null), new MockHttpServletResponse(), null));
+    }
+
+    /**
+     * The window limiter used to read and then write its state in separate steps, letting concurrent requests past the
+     * limit. It has to hold to the limit exactly now.
+     */
+    @Test
+    void windowLimiter_neverAllowsMoreThanTheLimitUnderContention() throws Exception {
+        int limit = 500;
+        int threads = 8;
+        WindowRequestLimiter limiter = new WindowRequestLimiter(limit, Duration.ofMinutes(1), clock::get);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> allowed = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                allowed.add(pool.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < limit; i++) {
+                        if (limiter.acquire("any").allowed()) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> count : allowed) {
+                total += count.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(limit, total);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertTrue(limiter.acquire("any").allowed());
+    }
+
+    private static MockHttpServletRequest request(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        if (client != null) {
+            request.addHeader("X-Client-Id", client);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRequestLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void acquire_allowsABurstToTheLimitThenRefillsAtTheAverageRate() {
+        TokenBucketRequestLimiter limiter =
+                new TokenBucketRequestLimiter(5, Duration.ofSeconds(10), Duration.ofMinutes(1), clock::get);
+
+        for (int i = 4; i >= 0; i--) {
+            RequestLimiter.Decision decision = limiter.acquire("a");
+            assertTrue(decision.allowed());
+            assertEquals(i, decision.remaining());
+        }
+        RequestLimiter.Decision refused = limiter.acquire("a");
+        assertFalse(refused.allowed());
+        assertEquals(Duration.ofSeconds(2), refused.retryAfter());
+        assertEquals(Duration.ofSeconds(10), refused.reset());
+        assertTrue(limiter.acquire("b").allowed());
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertTrue(limiter.acquire("a").allowed());
+        assertFalse(limiter.acquire("a").allowed());
+    }
+
+    @Test
+    void acquire_evictsIdleClientsWithoutForgettingBusyOnes() {
+        TokenBucketRequestLimiter limiter =
+                new TokenBucketRequestLimiter(2, Duration.ofSeconds(1), Duration.ofSeconds(30), clock::get);
+        limiter.acquire("idle");
+        clock.addAndGet(Duration.ofSeconds(20).toNanos());
+        limiter.acquire("busy");
+        assertEquals(2, limiter.trackedClients());
+
+        clock.addAndGet(Duration.ofSeconds(15).toNanos());
+        assertTrue(limiter.acquire("busy").allowed());
+        assertTrue(limiter.acquire("busy").allowed());
+        assertFalse(limiter.acquire("busy").allowed());
+        assertEquals(1, limiter.trackedClients());
+
+        assertTrue(limiter.acquire("idle").allowed());
+        assertEquals(2, limiter.trackedClients());
+    }
+
+    /**
+     * With the clock stopped no tokens are refilled, so however the threads interleave exactly {@code limit} requests
+     * may get through.
+     */
+    @Test
+    void acquire_neverAllowsMoreThanTheLimitUnderContention() throws Exception {
+        int limit = 1_000;
+        int threads = 8;
+        TokenBucketRequestLimiter limiter =
+                new TokenBucketRequestLimiter(limit, Duration.ofHours(1), Duration.ofHours(1), clock::get);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> allowed = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                allowed.add(pool.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < limit; i++) {
+                        if (limiter.acquire("shared").allowed()) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> count : allowed) {
+                total += count.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(limit, total);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}